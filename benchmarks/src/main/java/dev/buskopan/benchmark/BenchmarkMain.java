@@ -0,0 +1,24 @@
+package dev.buskopan.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Roda os benchmarks sempre com o GCProfiler, para reportar a taxa de alocação
+// (gc.alloc.rate.norm = bytes por operação) ao lado do throughput.
+// Aceita os mesmos argumentos da linha de comando do JMH, por exemplo um filtro: "StageBenchmark.tokenize"
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
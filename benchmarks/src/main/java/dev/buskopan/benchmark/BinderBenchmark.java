@@ -0,0 +1,47 @@
+package dev.buskopan.benchmark;
+
+import dev.buskopan.parser.BinderMode;
+import dev.buskopan.parser.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Binding direto com o binder gerado em tempo de execução (classe oculta) contra o plano por reflexão
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinderBenchmark {
+
+    @Param
+    public Corpus corpus;
+
+    @Param
+    public BinderMode binderMode;
+
+    private JsonParser parser;
+    private String json;
+
+    @Setup
+    public void setup() {
+        parser = JsonParser.builder().binderMode(binderMode).build();
+        json = corpus.json();
+    }
+
+    @Benchmark
+    public Object parse() {
+        return corpus.isList() ? parser.parseList(json, corpus.target()) : parser.parseSingle(json, corpus.target());
+    }
+}
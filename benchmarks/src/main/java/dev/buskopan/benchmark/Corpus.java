@@ -0,0 +1,128 @@
+package dev.buskopan.benchmark;
+
+import java.util.Random;
+
+// Documentos representativos, gerados de forma determinística
+public enum Corpus {
+    SMALL_OBJECT(Models.SmallObject.class, false) {
+        @Override
+        String generate(Random random) {
+            return """
+                    {"name": "user", "email": "user@mail.com", "age": 31, "active": true}""";
+        }
+    },
+    DEEP_NESTING(Models.Node.class, false) {
+        @Override
+        String generate(Random random) {
+            int depth = 200;
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < depth; i++) {
+                sb.append("{\"depth\": ").append(i).append(", \"label\": \"node-").append(i).append("\", \"child\": ");
+            }
+            sb.append("null");
+            sb.append("}".repeat(depth));
+            return sb.toString();
+        }
+    },
+    LONG_ARRAY_OF_RECORDS(Models.Record.class, true) {
+        @Override
+        String generate(Random random) {
+            return records(random, 10_000);
+        }
+    },
+    STRING_HEAVY(Models.Article.class, true) {
+        @Override
+        String generate(Random random) {
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < 500; i++) {
+                if (i > 0) {
+                    sb.append(",\n");
+                }
+                sb.append("{\"title\": \"").append(text(random, 8))
+                        .append("\", \"author\": \"").append(text(random, 2))
+                        .append("\", \"summary\": \"").append(text(random, 40))
+                        .append("\", \"body\": \"").append(text(random, 400)).append("\"}");
+            }
+            return sb.append("]").toString();
+        }
+    },
+    NUMBER_HEAVY(Models.Measurement.class, true) {
+        @Override
+        String generate(Random random) {
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < 2_000; i++) {
+                if (i > 0) {
+                    sb.append(",\n");
+                }
+                sb.append("{\"timestamp\": ").append(1_700_000_000_000L + i * 1000L)
+                        .append(", \"min\": ").append(random.nextDouble() * 10)
+                        .append(", \"max\": ").append(100 + random.nextDouble() * 10)
+                        .append(", \"avg\": ").append(50 + random.nextDouble())
+                        .append(", \"count\": ").append(random.nextInt(1_000_000))
+                        .append(", \"samples\": [");
+                for (int j = 0; j < 16; j++) {
+                    if (j > 0) {
+                        sb.append(", ");
+                    }
+                    sb.append(random.nextInt(100_000) / 1000.0);
+                }
+                sb.append("]}");
+            }
+            return sb.append("]").toString();
+        }
+    };
+
+    private static final String[] WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit",
+            "sed", "do", "eiusmod", "tempor", "incididunt", "ut", "labore", "magna"
+    };
+
+    private final Class<?> target;
+    private final boolean list;
+
+    Corpus(Class<?> target, boolean list) {
+        this.target = target;
+        this.list = list;
+    }
+
+    abstract String generate(Random random);
+
+    public String json() {
+        return generate(new Random(42));
+    }
+
+    public Class<?> target() {
+        return target;
+    }
+
+    public boolean isList() {
+        return list;
+    }
+
+    static String records(Random random, int count) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(",\n");
+            }
+            sb.append("{\"id\": ").append(i)
+                    .append(", \"name\": \"product-").append(i)
+                    .append("\", \"unit_price\": ").append(random.nextInt(100_000) / 100.0)
+                    .append(", \"quantity\": ").append(random.nextInt(50))
+                    .append(", \"tags\": [\"a\", \"b\", \"c\"]")
+                    .append(", \"ignored\": {\"warehouse\": ").append(random.nextInt(10)).append("}}");
+        }
+        return sb.append("]").toString();
+    }
+
+    private static String text(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
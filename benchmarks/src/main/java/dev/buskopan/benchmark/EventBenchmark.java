@@ -0,0 +1,83 @@
+package dev.buskopan.benchmark;
+
+import dev.buskopan.internal.lexer.Lexer;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.parser.JsonEvent;
+import dev.buskopan.parser.JsonEventReader;
+import dev.buskopan.parser.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Agregação (soma de um campo em todos os registros) sem precisar dos objetos: leitura por eventos
+// contra árvore e binding, com a varredura do lexer como limite.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBenchmark {
+
+    private final JsonParser parser = JsonParser.getInstance();
+    private String json;
+
+    @Setup
+    public void setup() {
+        json = Corpus.records(new Random(42), 10_000);
+    }
+
+    @Benchmark
+    public int lexerScan() {
+        TokenCursor cursor = Lexer.getInstance().cursor(json);
+        int tokens = 0;
+        while (cursor.hasNext()) {
+            cursor.nextType();
+            tokens++;
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public long events() {
+        long sum = 0;
+        JsonEventReader events = parser.events(json);
+        for (JsonEvent event = events.nextEvent(); event != null; event = events.nextEvent()) {
+            if (event == JsonEvent.FIELD_NAME && events.depth() == 2 && events.textEquals("quantity")) {
+                events.nextEvent();
+                sum += events.getLong();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long tree() {
+        long sum = 0;
+        for (Object record : (List<?>) parser.parseTree(json)) {
+            sum += (Long) ((Map<?, ?>) record).get("quantity");
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long binding() {
+        long sum = 0;
+        for (Models.Record record : parser.parseList(json, Models.Record.class)) {
+            sum += record.quantity;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,99 @@
+package dev.buskopan.benchmark;
+
+import dev.buskopan.parser.JsonLines;
+import dev.buskopan.parser.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Vazão de NDJSON em linhas por segundo: divisão manual com parseSingle por linha (como era feito antes),
+// JsonLines na thread que consome e JsonLines com lotes em um pool ou em threads virtuais.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LinesBenchmark {
+
+    private static final int LINES = 100_000;
+
+    private final JsonParser parser = JsonParser.getInstance();
+    private byte[] ndjson;
+    private ForkJoinPool pool;
+    private ExecutorService virtual;
+
+    @Setup
+    public void setup() {
+        String records = Corpus.records(new Random(42), LINES);
+        ndjson = records.substring(1, records.length() - 1).replace(",\n", "\n").getBytes(StandardCharsets.UTF_8);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        virtual = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+        virtual.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public long splitAndParseSingle() throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(ndjson), StandardCharsets.UTF_8));
+        long sum = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            sum += parser.parseSingle(line, Models.Record.class).quantity;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public long sequential() {
+        return sum(parser.lines(Models.Record.class));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public long forkJoinOrdered() {
+        return sum(parser.lines(Models.Record.class).executor(pool));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public long forkJoinUnordered() {
+        return sum(parser.lines(Models.Record.class).executor(pool).ordered(false));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public long virtualThreads() {
+        return sum(parser.lines(Models.Record.class).executor(virtual));
+    }
+
+    private long sum(JsonLines<Models.Record> lines) {
+        return lines.stream(new ByteArrayInputStream(ndjson)).mapToLong(record -> record.quantity).sum();
+    }
+}
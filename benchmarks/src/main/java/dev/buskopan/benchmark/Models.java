@@ -0,0 +1,50 @@
+package dev.buskopan.benchmark;
+
+import dev.buskopan.annotation.JsonFieldAnnotation;
+
+import java.util.List;
+
+// Classes alvo usadas pelos corpora
+public final class Models {
+
+    private Models() {
+    }
+
+    public static class SmallObject {
+        public String name;
+        public String email;
+        public int age;
+        public boolean active;
+    }
+
+    public static class Node {
+        public long depth;
+        public String label;
+        public Node child;
+    }
+
+    public static class Record {
+        public long id;
+        public String name;
+        @JsonFieldAnnotation("unit_price")
+        public double unitPrice;
+        public int quantity;
+        public List<String> tags;
+    }
+
+    public static class Article {
+        public String title;
+        public String author;
+        public String summary;
+        public String body;
+    }
+
+    public static class Measurement {
+        public long timestamp;
+        public double min;
+        public double max;
+        public double avg;
+        public long count;
+        public List<Double> samples;
+    }
+}
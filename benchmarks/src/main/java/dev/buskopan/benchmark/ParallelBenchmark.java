@@ -0,0 +1,64 @@
+package dev.buskopan.benchmark;
+
+import dev.buskopan.parser.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Escalabilidade do parseList paralelo conforme o número de threads do pool.
+// threads = 1 usa o parser sequencial, como referência.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    @Param({"100000"})
+    public int records;
+
+    private String json;
+    private ForkJoinPool pool;
+    private JsonParser parser;
+
+    @Setup
+    public void setup() {
+        json = Corpus.records(new Random(42), records);
+        if (threads == 1) {
+            parser = JsonParser.getInstance();
+        } else {
+            pool = new ForkJoinPool(threads);
+            parser = JsonParser.builder().parallel(pool).build();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public List<Models.Record> parseList() {
+        return parser.parseList(json, Models.Record.class);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.buskopan.benchmark;
+
+import dev.buskopan.internal.lexer.Lexer;
+import dev.buskopan.internal.parser.TreeParser;
+import dev.buskopan.parser.JsonPath;
+import dev.buskopan.parser.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Extrai um valor que fica no fundo de um documento grande: caminho compilado, documento lazy
+// e parse completo da árvore seguido da navegação pelos Map/List
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathBenchmark {
+
+    @Param({"1000", "10000"})
+    public int noise;
+
+    private final JsonParser parser = JsonParser.getInstance();
+    private final Lexer lexer = Lexer.getInstance();
+    private final TreeParser treeParser = TreeParser.getInstance();
+    private final JsonPath path = JsonPath.compile("$.envelope.payload.order.items[*].sku");
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        // Metadados volumosos antes do alvo, que o caminho precisa pular
+        StringBuilder sb = new StringBuilder("{\"headers\": ").append(Corpus.records(random, noise));
+        sb.append(", \"envelope\": {\"trace\": ").append(Corpus.records(random, noise / 10));
+        sb.append(", \"payload\": {\"order\": {\"id\": 1, \"items\": [");
+        for (int i = 0; i < 5; i++) {
+            sb.append(i > 0 ? ", " : "").append("{\"sku\": \"SKU-").append(i).append("\", \"qty\": ").append(i + 1).append("}");
+        }
+        json = sb.append("]}}}}").toString();
+    }
+
+    @Benchmark
+    public List<Object> select() {
+        return parser.select(json, path);
+    }
+
+    @Benchmark
+    public Object lazyDocument() {
+        return parser.parseDocument(json).root().get("envelope").get("payload").get("order").get("items").get(4).get("sku").asText();
+    }
+
+    @Benchmark
+    public Object fullTree() {
+        Map<?, ?> root = (Map<?, ?>) treeParser.parse(lexer.cursor(json));
+        Map<?, ?> envelope = (Map<?, ?>) root.get("envelope");
+        Map<?, ?> order = (Map<?, ?>) ((Map<?, ?>) envelope.get("payload")).get("order");
+        return ((Map<?, ?>) ((List<?>) order.get("items")).get(4)).get("sku");
+    }
+}
@@ -0,0 +1,70 @@
+package dev.buskopan.benchmark;
+
+import dev.buskopan.parser.JsonParser;
+import dev.buskopan.serializer.JsonBuffer;
+import dev.buskopan.serializer.JsonSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Escrita dos mesmos corpora lidos pelos outros benchmarks, ao lado do parse do JSON que ela gera
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializerBenchmark {
+
+    @Param
+    public Corpus corpus;
+
+    private final JsonParser parser = JsonParser.getInstance();
+    private final JsonSerializer serializer = JsonSerializer.getInstance();
+    private final JsonBuffer buffer = new JsonBuffer();
+
+    private Object value;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        value = corpus.isList()
+                ? parser.parseList(corpus.json(), corpus.target())
+                : parser.parseSingle(corpus.json(), corpus.target());
+        json = serializer.toBytes(value);
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return serializer.toBytes(value);
+    }
+
+    // Buffer reaproveitado: depois do aquecimento não aloca nada além do que o próprio objeto exige
+    @Benchmark
+    public int reusedBuffer() {
+        buffer.reset();
+        serializer.write(value, buffer);
+        return buffer.size();
+    }
+
+    @Benchmark
+    public String toJson() {
+        return new String(serializer.toBytes(value), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return corpus.isList() ? parser.parseList(json, corpus.target()) : parser.parseSingle(json, corpus.target());
+    }
+}
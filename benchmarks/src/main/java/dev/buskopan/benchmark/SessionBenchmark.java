@@ -0,0 +1,42 @@
+package dev.buskopan.benchmark;
+
+import dev.buskopan.parser.JsonParser;
+import dev.buskopan.parser.ParserSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Mensagens pequenas lidas uma a uma: parser contra sessão. Rodar com -prof gc para ver a alocação por
+// chamada (a sessão só aloca o resultado; o parser aloca pelo menos o buffer do cursor).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionBenchmark {
+
+    private static final String JSON = """
+            {"name": "user", "email": "user@mail.com", "age": 31, "active": true}""";
+
+    private final JsonParser parser = JsonParser.getInstance();
+    private final ParserSession session = parser.newSession();
+
+    @Benchmark
+    public Models.SmallObject parser() {
+        return parser.parseSingle(JSON, Models.SmallObject.class);
+    }
+
+    @Benchmark
+    public Models.SmallObject session() {
+        return session.parseSingle(JSON, Models.SmallObject.class);
+    }
+}
@@ -0,0 +1,85 @@
+package dev.buskopan.benchmark;
+
+import dev.buskopan.internal.lexer.Lexer;
+import dev.buskopan.internal.lexer.Token;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.parser.ToObject;
+import dev.buskopan.internal.parser.TreeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Mede cada etapa do pipeline separadamente: tokenização, montagem da árvore e binding
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StageBenchmark {
+
+    @Param
+    public Corpus corpus;
+
+    private final Lexer lexer = Lexer.getInstance();
+    private final TreeParser treeParser = TreeParser.getInstance();
+    private final ToObject toObject = ToObject.getInstance();
+
+    private String json;
+    private Object tree;
+
+    @Setup
+    public void setup() {
+        json = corpus.json();
+        tree = treeParser.parse(lexer.cursor(json));
+    }
+
+    @Benchmark
+    public List<Token> tokenize() {
+        return lexer.tokenize(json);
+    }
+
+    // Só percorre os tipos dos tokens, sem criar Token nem String
+    @Benchmark
+    public int scan() {
+        TokenCursor cursor = lexer.cursor(json);
+        int tokens = 0;
+        while (cursor.hasNext()) {
+            cursor.nextType();
+            tokens++;
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public Object treeBuild() {
+        return treeParser.parse(lexer.cursor(json));
+    }
+
+    @Benchmark
+    public Object binding() {
+        if (corpus.isList()) {
+            return toObject.convertList((List<?>) tree, corpus.target());
+        }
+        return toObject.convert(tree, corpus.target());
+    }
+
+    @Benchmark
+    public Object directBinding() {
+        if (corpus.isList()) {
+            return toObject.readList(lexer.cursor(json), corpus.target());
+        }
+        return toObject.read(lexer.cursor(json), corpus.target());
+    }
+}
@@ -0,0 +1,61 @@
+package dev.buskopan.benchmark;
+
+import dev.buskopan.internal.lexer.StructuralIndex;
+import dev.buskopan.internal.lexer.TokenCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Compara a montagem do índice estrutural com a Vector API e com o laço escalar,
+// e a leitura dos tokens pulando pelo índice
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class StructuralIndexBenchmark {
+
+    @Param
+    public Corpus corpus;
+
+    private char[] chars;
+    private StructuralIndex index;
+
+    @Setup
+    public void setup() {
+        chars = corpus.json().toCharArray();
+        index = StructuralIndex.build(chars, 0, chars.length);
+    }
+
+    @Benchmark
+    public int vectorIndex() {
+        return StructuralIndex.build(chars, 0, chars.length).count();
+    }
+
+    @Benchmark
+    public int scalarIndex() {
+        return StructuralIndex.buildScalar(chars, 0, chars.length).count();
+    }
+
+    @Benchmark
+    public int indexedScan() {
+        TokenCursor cursor = index.cursor();
+        int tokens = 0;
+        while (cursor.hasNext()) {
+            cursor.nextType();
+            tokens++;
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,67 @@
+package dev.buskopan.benchmark;
+
+import dev.buskopan.internal.lexer.Lexer;
+import dev.buskopan.internal.parser.TreeParser;
+import dev.buskopan.parser.JsonParser;
+import dev.buskopan.parser.TapeCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Árvore sem classe alvo: HashMap/ArrayList com números em caixa contra o tape em arrays primitivos.
+// Rode com -prof gc para ver a memória alocada por documento. cachedBinding lê sempre o mesmo documento
+// com o cache de tapes, contra o binding direto de directBinding.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeBenchmark {
+
+    @Param({"LONG_ARRAY_OF_RECORDS", "NUMBER_HEAVY", "STRING_HEAVY"})
+    public Corpus corpus;
+
+    private final JsonParser parser = JsonParser.getInstance();
+    private final Lexer lexer = Lexer.getInstance();
+    private final TreeParser treeParser = TreeParser.getInstance();
+    private final JsonParser cached = JsonParser.builder().tapeCache(new TapeCache(1L << 30)).build();
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        json = corpus.generate(new Random(42));
+    }
+
+    @Benchmark
+    public Object hashMapTree() {
+        return treeParser.parse(lexer.cursor(json));
+    }
+
+    @Benchmark
+    public Object compactTree() {
+        return parser.parseTree(json);
+    }
+
+    @Benchmark
+    public Object directBinding() {
+        return parser.parseList(json, corpus.target());
+    }
+
+    @Benchmark
+    public Object cachedBinding() {
+        return cached.parseList(json, corpus.target());
+    }
+}
@@ -0,0 +1,15 @@
+package dev.buskopan.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca uma classe para o processador de anotações gerar o binder dela em tempo de compilação,
+ * mesmo que nenhum campo use {@link JsonFieldAnnotation}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonBindable {
+}
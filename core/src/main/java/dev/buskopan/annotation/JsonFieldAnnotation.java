@@ -5,8 +5,9 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+// Em um parâmetro de construtor, liga o parâmetro ao campo com essa chave JSON (composite não é usado)
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
 public @interface JsonFieldAnnotation {
     String value();
     String[] composite() default {};
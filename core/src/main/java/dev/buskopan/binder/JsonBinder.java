@@ -0,0 +1,18 @@
+package dev.buskopan.binder;
+
+/**
+ * Lê um objeto JSON direto para uma instância de {@code T}, sem reflexão.
+ * <p>
+ * Normalmente gerado pelo processador de anotações ({@code parser-json-processor}) e registrado como
+ * serviço ({@code META-INF/services} ou {@code provides} no module-info). O {@code JsonParser} usa o binder
+ * registrado para a classe alvo no modo {@code DIRECT} e cai na reflexão quando não há nenhum.
+ */
+public interface JsonBinder<T> {
+
+    Class<T> type();
+
+    /**
+     * Chamado logo depois do '{' do objeto; deve consumir os membros até o '}' com {@link JsonReader#nextField()}.
+     */
+    T read(JsonReader reader);
+}
@@ -0,0 +1,48 @@
+package dev.buskopan.binder;
+
+import java.util.List;
+
+/**
+ * Membros de um objeto JSON, lidos um por vez por um {@link JsonBinder}.
+ * <p>
+ * Depois de {@link #nextField()} o valor do membro deve ser consumido por exatamente um dos métodos
+ * de leitura ou por {@link #skipValue()}. As conversões são as mesmas do binding por reflexão.
+ */
+public interface JsonReader {
+
+    /**
+     * Chave do próximo membro, ou {@code null} quando o objeto termina.
+     */
+    String nextField();
+
+    int readInt();
+
+    long readLong();
+
+    double readDouble();
+
+    float readFloat();
+
+    boolean readBoolean();
+
+    /**
+     * Valor convertido no tipo, como em um campo desse tipo: objetos viram instâncias da classe,
+     * valores simples são convertidos e {@code null} continua {@code null}.
+     */
+    <T> T read(Class<T> type);
+
+    <T> List<T> readList(Class<T> elementType);
+
+    /**
+     * Objeto cujos valores das chaves são juntados por espaço, como em {@code JsonFieldAnnotation#composite()}.
+     */
+    String readComposite(String... keys);
+
+    void skipValue();
+
+    /**
+     * Se o valor é um array, pula-o e devolve {@code true}; senão ele fica para o próximo método de leitura.
+     * Campos que não são {@code List} não recebem arrays e mantêm o valor que tinham, como na reflexão.
+     */
+    boolean skipIfArray();
+}
@@ -0,0 +1,12 @@
+package dev.buskopan.internal.lexer;
+
+// Classifica um bloco de até 64 chars em máscaras de bits, um bit por char
+interface BlockClassifier {
+
+    int QUOTE = 0;
+    int BACKSLASH = 1;
+    int STRUCTURAL = 2;
+    int WHITESPACE = 3;
+
+    void classify(char[] buf, int offset, int length, long[] masks);
+}
@@ -0,0 +1,48 @@
+package dev.buskopan.internal.lexer;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+// Decodifica UTF-8 direto de um ByteBuffer para o buffer do cursor, sem cópia intermediária
+final class ByteBufferReader extends java.io.Reader {
+
+    private final ByteBuffer in;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private boolean flushed = false;
+
+    ByteBufferReader(ByteBuffer in) {
+        this.in = in;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+
+        while (out.position() == off && !flushed) {
+            CoderResult result = decoder.decode(in, out, true);
+            if (result.isUnderflow()) {
+                flushed = decoder.flush(out).isUnderflow();
+            } else if (out.position() == off) {
+                // Não coube nem um par surrogate; o cursor sempre pede mais de 2 chars
+                throw new IllegalStateException("buffer too small to decode input");
+            }
+        }
+
+        int read = out.position() - off;
+        return read == 0 && flushed ? -1 : read;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,100 @@
+package dev.buskopan.internal.lexer;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Entrada de uma sessão de leitura: a String ou os bytes são copiados para um array de chars que só cresce,
+// e o mesmo cursor (e o mesmo índice estrutural) é reposicionado sobre ele a cada leitura.
+// Depois que o array chega ao tamanho das mensagens, preparar uma leitura não aloca nada. Não é thread-safe.
+public final class InputBuffer {
+
+    private char[] chars = new char[TokenCursor.BUFFER_SIZE];
+    private final TokenCursor cursor = TokenCursor.reusable();
+    private StructuralIndex index;
+
+    public TokenCursor cursor(String input, boolean indexed) {
+        int length = input.length();
+        input.getChars(0, length, capacity(length), 0);
+        return cursor(length, indexed);
+    }
+
+    public TokenCursor cursor(byte[] input, boolean indexed) {
+        return cursor(input, 0, input.length, indexed);
+    }
+
+    // Só os bytes de input entre from e to
+    public TokenCursor cursor(byte[] input, int from, int to, boolean indexed) {
+        return cursor(decode(input, from, to), indexed);
+    }
+
+    private TokenCursor cursor(int length, boolean indexed) {
+        if (!indexed) {
+            return cursor.reset(chars, 0, length);
+        }
+        if (index == null) {
+            index = StructuralIndex.reusable();
+        }
+        return index.rebuild(chars, 0, length).reset(cursor);
+    }
+
+    private char[] capacity(int length) {
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        return chars;
+    }
+
+    // UTF-8 para UTF-16 direto no array, sem ByteBuffer/CharBuffer. Sequências mal formadas
+    // ficam com o decodificador do JDK, que as troca por U+FFFD como nas outras entradas de bytes.
+    private int decode(byte[] input, int from, int to) {
+        // UTF-8 nunca gera mais chars do que bytes
+        char[] out = capacity(to - from);
+        int n = 0;
+        int i = from;
+
+        while (i < to) {
+            int b = input[i];
+            if (b >= 0) {
+                out[n++] = (char) b;
+                i++;
+            } else if ((b & 0xE0) == 0xC0 && i + 1 < to && isContinuation(input[i + 1])) {
+                int c = (b & 0x1F) << 6 | input[i + 1] & 0x3F;
+                if (c < 0x80) {
+                    return decodeMalformed(input, from, to);
+                }
+                out[n++] = (char) c;
+                i += 2;
+            } else if ((b & 0xF0) == 0xE0 && i + 2 < to && isContinuation(input[i + 1]) && isContinuation(input[i + 2])) {
+                int c = (b & 0x0F) << 12 | (input[i + 1] & 0x3F) << 6 | input[i + 2] & 0x3F;
+                if (c < 0x800 || Character.isSurrogate((char) c)) {
+                    return decodeMalformed(input, from, to);
+                }
+                out[n++] = (char) c;
+                i += 3;
+            } else if ((b & 0xF8) == 0xF0 && i + 3 < to && isContinuation(input[i + 1])
+                    && isContinuation(input[i + 2]) && isContinuation(input[i + 3])) {
+                int c = (b & 0x07) << 18 | (input[i + 1] & 0x3F) << 12 | (input[i + 2] & 0x3F) << 6 | input[i + 3] & 0x3F;
+                if (c < 0x10000 || c > Character.MAX_CODE_POINT) {
+                    return decodeMalformed(input, from, to);
+                }
+                out[n++] = Character.highSurrogate(c);
+                out[n++] = Character.lowSurrogate(c);
+                i += 4;
+            } else {
+                return decodeMalformed(input, from, to);
+            }
+        }
+        return n;
+    }
+
+    private int decodeMalformed(byte[] input, int from, int to) {
+        CharBuffer decoded = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(input, from, to - from));
+        decoded.get(capacity(decoded.remaining()), 0, decoded.remaining());
+        return decoded.limit();
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+}
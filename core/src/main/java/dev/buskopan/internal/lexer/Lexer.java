@@ -0,0 +1,75 @@
+package dev.buskopan.internal.lexer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Lexer {
+
+    private static final Lexer INSTANCE = new Lexer();
+
+    private Lexer() {
+    }
+
+     public static Lexer getInstance() {
+        return INSTANCE;
+    }
+
+    public List<Token> tokenize(String input) {
+        List<Token> tokens = new ArrayList<>();
+        TokenCursor cursor = cursor(input);
+
+        while (cursor.hasNext()) {
+            tokens.add(cursor.next());
+        }
+
+        return tokens;
+    }
+
+    // A String é copiada aos poucos para o buffer do cursor, nunca inteira
+    public TokenCursor cursor(String input) {
+        return new TokenCursor(new StringReader(input));
+    }
+
+    public TokenCursor cursor(char[] input, int from, int to) {
+        return new TokenCursor(input, from, to);
+    }
+
+    // Monta o índice estrutural antes de ler: útil quando a entrada já está toda em memória
+    public TokenCursor indexedCursor(char[] input, int from, int to) {
+        return StructuralIndex.build(input, from, to).cursor();
+    }
+
+    public TokenCursor cursor(Reader input) {
+        return new TokenCursor(input);
+    }
+
+    public TokenCursor cursor(InputStream input) {
+        return new TokenCursor(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    public TokenCursor cursor(byte[] input) {
+        return cursor(ByteBuffer.wrap(input));
+    }
+
+    public TokenCursor cursor(ByteBuffer input) {
+        return new TokenCursor(new ByteBufferReader(input));
+    }
+
+    // O arquivo fica aberto até o cursor ser fechado
+    public TokenCursor cursor(Path input) {
+        try {
+            return new TokenCursor(new MappedFileReader(input));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
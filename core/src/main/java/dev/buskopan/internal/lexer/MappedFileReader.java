@@ -0,0 +1,90 @@
+package dev.buskopan.internal.lexer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Lê um arquivo UTF-8 mapeado em memória, decodificando direto dos bytes mapeados.
+// O arquivo é mapeado em janelas, então arquivos acima de 2 GB também funcionam.
+public final class MappedFileReader extends Reader {
+
+    static final int WINDOW_SIZE = 1 << 28;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private MappedByteBuffer window;
+    private long windowStart = 0;
+    private boolean flushed = false;
+
+    public MappedFileReader(Path path) throws IOException {
+        this(path, WINDOW_SIZE);
+    }
+
+    public MappedFileReader(Path path, int windowSize) throws IOException {
+        if (windowSize < 16) {
+            throw new IllegalArgumentException("window size must be at least 16 bytes");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+
+        while (out.position() == off && !flushed) {
+            if (window == null) {
+                map(0);
+            }
+
+            boolean last = windowStart + window.limit() == size;
+            CoderResult result = decoder.decode(window, out, last);
+
+            if (result.isOverflow()) {
+                if (out.position() == off) {
+                    throw new IllegalStateException("buffer too small to decode input");
+                }
+                break;
+            }
+
+            if (last) {
+                flushed = decoder.flush(out).isUnderflow();
+            } else {
+                // Bytes de um caractere cortado no fim da janela entram de novo na próxima
+                map(windowStart + window.position());
+            }
+        }
+
+        int read = out.position() - off;
+        return read == 0 && flushed ? -1 : read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+    }
+}
@@ -0,0 +1,254 @@
+package dev.buskopan.internal.lexer;
+
+import java.math.BigInteger;
+
+// Converte os dígitos de um número direto do buffer do cursor para long/double, sem criar String.
+// Para double: caminho exato de Clinger quando mantissa e expoente cabem em um double,
+// senão o algoritmo de Eisel-Lemire (aproximação de 128 bits de 5^q, como no fast_float).
+// Entradas fora do formato comum (mais de 19 dígitos significativos, dígitos não ASCII,
+// números mal formados) caem no parse do JDK, que devolve o mesmo resultado ou erro de antes.
+final class NumberDecoder {
+
+    private static final int MIN_POWER = -342;
+    private static final int MAX_POWER = 308;
+    private static final long[] POWERS_OF_FIVE = powersOfFive();
+
+    private static final double[] DOUBLE_POWERS = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POWERS = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    // Resultado do último decode: (-1)^negative * mantissa * 10^exponent
+    private boolean negative;
+    private long mantissa;
+    private int exponent;
+
+    static boolean isIntegral(char[] buf, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = buf[i];
+            if (c == '.' || c == 'e' || c == 'E') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long parseLong(char[] buf, int from, int to) {
+        int i = from;
+        boolean minus = i < to && buf[i] == '-';
+        if (minus) {
+            i++;
+        }
+
+        // Até 18 dígitos não estouram um long
+        if (i == to || to - i > 18) {
+            return Long.parseLong(new String(buf, from, to - from));
+        }
+
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = buf[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(new String(buf, from, to - from));
+            }
+            value = value * 10 + digit;
+        }
+        return minus ? -value : value;
+    }
+
+    int parseInt(char[] buf, int from, int to) {
+        long value = parseLong(buf, from, to);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            return Integer.parseInt(new String(buf, from, to - from));
+        }
+        return (int) value;
+    }
+
+    double parseDouble(char[] buf, int from, int to) {
+        if (decode(buf, from, to)) {
+            if (mantissa == 0) {
+                return negative ? -0.0 : 0.0;
+            }
+
+            double value;
+            if (exponent >= -22 && exponent <= 22 && mantissa >= 0 && mantissa <= 1L << 53) {
+                value = exponent < 0
+                        ? mantissa / DOUBLE_POWERS[-exponent]
+                        : mantissa * DOUBLE_POWERS[exponent];
+            } else {
+                value = eiselLemire(mantissa, exponent);
+            }
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(new String(buf, from, to - from));
+    }
+
+    // Só o caminho exato em float; o resto passa pelo JDK para não arredondar duas vezes
+    float parseFloat(char[] buf, int from, int to) {
+        if (decode(buf, from, to) && exponent >= -10 && exponent <= 10 && mantissa >= 0 && mantissa <= 1L << 24) {
+            float value = exponent < 0
+                    ? mantissa / FLOAT_POWERS[-exponent]
+                    : mantissa * FLOAT_POWERS[exponent];
+            return negative ? -value : value;
+        }
+        return Float.parseFloat(new String(buf, from, to - from));
+    }
+
+    // Separa sinal, mantissa e expoente decimal; false se o número precisar do caminho lento
+    private boolean decode(char[] buf, int from, int to) {
+        int i = from;
+        negative = i < to && buf[i] == '-';
+        if (negative) {
+            i++;
+        }
+
+        long value = 0;
+        int significant = 0;
+        int digits = 0;
+        int exp = 0;
+
+        for (; i < to && isDigit(buf[i]); i++, digits++) {
+            value = value * 10 + (buf[i] - '0');
+            if (value != 0) {
+                significant++;
+            }
+        }
+        if (i < to && buf[i] == '.') {
+            for (i++; i < to && isDigit(buf[i]); i++, digits++) {
+                value = value * 10 + (buf[i] - '0');
+                if (value != 0) {
+                    significant++;
+                }
+                exp--;
+            }
+        }
+        if (digits == 0 || significant > 19) {
+            return false;
+        }
+
+        if (i < to && (buf[i] == 'e' || buf[i] == 'E')) {
+            i++;
+            boolean negativeExp = i < to && buf[i] == '-';
+            if (i < to && (buf[i] == '-' || buf[i] == '+')) {
+                i++;
+            }
+            if (i == to) {
+                return false;
+            }
+            int e = 0;
+            for (; i < to && isDigit(buf[i]); i++) {
+                // Expoentes enormes já viram zero ou infinito; só evita estourar o int
+                if (e < 100_000) {
+                    e = e * 10 + (buf[i] - '0');
+                }
+            }
+            exp += negativeExp ? -e : e;
+        }
+
+        if (i != to) {
+            return false;
+        }
+
+        mantissa = value;
+        exponent = exp;
+        return true;
+    }
+
+    // w * 10^q para w > 0 (sem sinal) com até 19 dígitos
+    private static double eiselLemire(long w, int q) {
+        if (q < MIN_POWER) {
+            return 0.0;
+        }
+        if (q > MAX_POWER) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+
+        int index = 2 * (q - MIN_POWER);
+        long high = Math.unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+        long low = w * POWERS_OF_FIVE[index];
+
+        // Os 55 bits de cima ainda podem mudar: usa a segunda metade da aproximação
+        long precisionMask = 0xFFFFFFFFFFFFFFFFL >>> 55;
+        if ((high & precisionMask) == precisionMask) {
+            long secondHigh = Math.unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+        }
+
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 64 - 52 - 3;
+        long m = high >>> shift;
+        int power2 = (((152170 + 65536) * q) >> 16) + 63 + upperBit - lz + 1023;
+
+        if (power2 <= 0) {
+            // Subnormal
+            if (-power2 + 1 >= 64) {
+                return 0.0;
+            }
+            m >>>= -power2 + 1;
+            m += m & 1;
+            m >>>= 1;
+            power2 = m < 1L << 52 ? 0 : 1;
+            return Double.longBitsToDouble(m | (long) power2 << 52);
+        }
+
+        // Exatamente no meio entre dois doubles: arredonda para o par
+        if (Long.compareUnsigned(low, 1) <= 0 && q >= -4 && q <= 23 && (m & 3) == 1
+                && (m << shift) == high) {
+            m &= ~1L;
+        }
+
+        m += m & 1;
+        m >>>= 1;
+        if (m >= 2L << 52) {
+            m = 1L << 52;
+            power2++;
+        }
+        m &= ~(1L << 52);
+
+        if (power2 >= 0x7FF) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Double.longBitsToDouble(m | (long) power2 << 52);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // 128 bits mais significativos de 5^q, de MIN_POWER a MAX_POWER, normalizados com o bit alto ligado
+    private static long[] powersOfFive() {
+        long[] table = new long[2 * (MAX_POWER - MIN_POWER + 1)];
+        BigInteger five = BigInteger.valueOf(5);
+
+        for (int q = MIN_POWER; q <= MAX_POWER; q++) {
+            BigInteger c;
+            if (q >= 0) {
+                c = five.pow(q);
+                int bits = c.bitLength();
+                c = bits < 128 ? c.shiftLeft(128 - bits) : c.shiftRight(bits - 128);
+            } else {
+                BigInteger power = five.pow(-q);
+                int z = power.bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                c = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+                if (c.bitLength() > 128) {
+                    c = c.shiftRight(c.bitLength() - 128);
+                }
+            }
+
+            int index = 2 * (q - MIN_POWER);
+            table[index] = c.shiftRight(64).longValue();
+            table[index + 1] = c.longValue();
+        }
+        return table;
+    }
+}
@@ -0,0 +1,35 @@
+package dev.buskopan.internal.lexer;
+
+// Classificação char a char, usada quando a Vector API não está disponível e nos blocos finais
+final class ScalarBlockClassifier implements BlockClassifier {
+
+    static final ScalarBlockClassifier INSTANCE = new ScalarBlockClassifier();
+
+    private ScalarBlockClassifier() {
+    }
+
+    @Override
+    public void classify(char[] buf, int offset, int length, long[] masks) {
+        long quote = 0;
+        long backslash = 0;
+        long structural = 0;
+        long whitespace = 0;
+
+        for (int j = 0; j < length; j++) {
+            long bit = 1L << j;
+            switch (buf[offset + j]) {
+                case '"' -> quote |= bit;
+                case '\\' -> backslash |= bit;
+                case '{', '}', '[', ']', ':', ',' -> structural |= bit;
+                case ' ', '\t', '\n', '\r' -> whitespace |= bit;
+                default -> {
+                }
+            }
+        }
+
+        masks[QUOTE] = quote;
+        masks[BACKSLASH] = backslash;
+        masks[STRUCTURAL] = structural;
+        masks[WHITESPACE] = whitespace;
+    }
+}
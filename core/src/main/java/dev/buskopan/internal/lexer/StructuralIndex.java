@@ -0,0 +1,251 @@
+package dev.buskopan.internal.lexer;
+
+import java.util.Arrays;
+
+// Índice estrutural no estilo do simdjson: a entrada é classificada em blocos de 64 chars
+// (aspas, barras invertidas, pontuação e espaços viram máscaras de bits) e, com operações
+// sobre essas máscaras, sobram as posições onde cada token começa fora das strings:
+// pontuação, aspas de abertura e fechamento, e o primeiro char de números e literais.
+// O TokenCursor pode então pular de posição em posição em vez de olhar cada char.
+// A classificação usa a Vector API quando o módulo jdk.incubator.vector está presente;
+// senão usa um laço escalar, que gera exatamente o mesmo índice.
+public final class StructuralIndex {
+
+    private static final BlockClassifier VECTOR = vectorClassifier();
+
+    private char[] buf;
+    private int from;
+    private int to;
+    private int[] positions = new int[16];
+    private int count;
+    private final long[] masks = new long[4];
+
+    private StructuralIndex() {
+    }
+
+    public static StructuralIndex build(char[] buf, int from, int to) {
+        return build(buf, from, to, VECTOR != null ? VECTOR : ScalarBlockClassifier.INSTANCE);
+    }
+
+    // Índice vazio para ser refeito a cada entrada com rebuild(), reaproveitando o array de posições
+    public static StructuralIndex reusable() {
+        return new StructuralIndex();
+    }
+
+    // Só para índices de um único dono (a sessão de leitura): cursores criados antes passam a ver a nova entrada
+    public StructuralIndex rebuild(char[] buf, int from, int to) {
+        return index(buf, from, to, VECTOR != null ? VECTOR : ScalarBlockClassifier.INSTANCE);
+    }
+
+    public static StructuralIndex buildScalar(char[] buf, int from, int to) {
+        return build(buf, from, to, ScalarBlockClassifier.INSTANCE);
+    }
+
+    public static boolean isVectorized() {
+        return VECTOR != null;
+    }
+
+    public char[] buf() {
+        return buf;
+    }
+
+    public int from() {
+        return from;
+    }
+
+    public int to() {
+        return to;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int position(int entry) {
+        return positions[entry];
+    }
+
+    public int[] positions() {
+        return Arrays.copyOf(positions, count);
+    }
+
+    public char charAt(int entry) {
+        return buf[positions[entry]];
+    }
+
+    // Entrada logo depois do valor que começa em entry: containers são pulados pela profundidade
+    // e strings pelas duas aspas, sem olhar o conteúdo. Devolve -1 se o container não fecha.
+    public int skipValue(int entry) {
+        char c = charAt(entry);
+        if (c == '"') {
+            return Math.min(entry + 2, count);
+        }
+        if (c != '{' && c != '[') {
+            return entry + 1;
+        }
+
+        int depth = 0;
+        for (int k = entry; k < count; k++) {
+            switch (buf[positions[k]]) {
+                case '{', '[' -> depth++;
+                case '}', ']' -> {
+                    if (--depth == 0) {
+                        return k + 1;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Entradas do '[' de abertura, de cada ',' no primeiro nível e do ']' de fechamento de um array na raiz.
+    // O elemento i fica entre as entradas i e i + 1. Devolve null se a entrada não for um array bem fechado.
+    public int[] splitArray() {
+        if (count == 0 || buf[positions[0]] != '[') {
+            return null;
+        }
+
+        int[] marks = new int[64];
+        int n = 0;
+        marks[n++] = 0;
+        int depth = 1;
+
+        for (int k = 1; k < count; k++) {
+            char c = buf[positions[k]];
+            switch (c) {
+                case '{', '[' -> depth++;
+                case '}', ']' -> {
+                    depth--;
+                    if (depth == 0) {
+                        if (c != ']') {
+                            return null;
+                        }
+                        marks = grow(marks, n);
+                        marks[n++] = k;
+                        return Arrays.copyOf(marks, n);
+                    }
+                }
+                case ',' -> {
+                    if (depth == 1) {
+                        marks = grow(marks, n);
+                        marks[n++] = k;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        return null;
+    }
+
+    // Cursor que percorre as entradas [first, last) do índice
+    public TokenCursor cursor(int first, int last) {
+        int end = last < count ? positions[last] : to;
+        return new TokenCursor(buf, first < count ? positions[first] : to, end, positions, first, last);
+    }
+
+    public TokenCursor cursor() {
+        return new TokenCursor(buf, from, to, positions, 0, count);
+    }
+
+    // Reposiciona um cursor já existente no início do índice, sem criar outro
+    public TokenCursor reset(TokenCursor cursor) {
+        return cursor.reset(buf, from, to, positions, 0, count);
+    }
+
+    static StructuralIndex build(char[] buf, int from, int to, BlockClassifier classifier) {
+        return new StructuralIndex().index(buf, from, to, classifier);
+    }
+
+    private StructuralIndex index(char[] buf, int from, int to, BlockClassifier classifier) {
+        int[] positions = this.positions.length >= (to - from) / 8 ? this.positions : new int[Math.max(16, (to - from) / 8)];
+        int count = 0;
+
+        // Estado que atravessa os blocos
+        boolean escapeCarry = false;
+        long inStringCarry = 0;
+        long boundaryCarry = 1;
+
+        for (int offset = from; offset < to; offset += 64) {
+            int length = Math.min(64, to - offset);
+            classifier.classify(buf, offset, length, masks);
+
+            long valid = length == 64 ? -1L : (1L << length) - 1;
+            long backslash = masks[BlockClassifier.BACKSLASH];
+            long whitespace = masks[BlockClassifier.WHITESPACE];
+            long structural = masks[BlockClassifier.STRUCTURAL];
+
+            // Chars escapados: cada barra escapa o char seguinte, que por isso não escapa ninguém
+            long escaped = 0;
+            if (escapeCarry) {
+                escaped = 1;
+                backslash &= ~1L;
+                escapeCarry = false;
+            }
+            while (backslash != 0) {
+                int j = Long.numberOfTrailingZeros(backslash);
+                if (j == 63) {
+                    escapeCarry = true;
+                    break;
+                }
+                escaped |= 1L << (j + 1);
+                backslash &= ~(3L << j);
+            }
+
+            // XOR prefixado das aspas: bit ligado da aspa de abertura até antes da de fechamento
+            long quote = masks[BlockClassifier.QUOTE] & ~escaped;
+            long inString = prefixXor(quote) ^ inStringCarry;
+            inStringCarry = inString >> 63;
+
+            structural &= ~inString;
+            long scalar = ~(whitespace | structural | quote | inString);
+            long boundary = whitespace | structural | quote;
+            long starts = scalar & ((boundary << 1) | boundaryCarry);
+            boundaryCarry = boundary >>> 63;
+
+            long tokens = (structural | quote | starts) & valid;
+            while (tokens != 0) {
+                if (count == positions.length) {
+                    positions = Arrays.copyOf(positions, count * 2);
+                }
+                positions[count++] = offset + Long.numberOfTrailingZeros(tokens);
+                tokens &= tokens - 1;
+            }
+        }
+
+        this.buf = buf;
+        this.from = from;
+        this.to = to;
+        this.positions = positions;
+        this.count = count;
+        return this;
+    }
+
+    private static long prefixXor(long bits) {
+        bits ^= bits << 1;
+        bits ^= bits << 2;
+        bits ^= bits << 4;
+        bits ^= bits << 8;
+        bits ^= bits << 16;
+        bits ^= bits << 32;
+        return bits;
+    }
+
+    private static int[] grow(int[] marks, int count) {
+        return count < marks.length ? marks : Arrays.copyOf(marks, marks.length * 2);
+    }
+
+    private static BlockClassifier vectorClassifier() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return VectorBlockClassifier.supported() ? new VectorBlockClassifier() : null;
+        } catch (LinkageError ex) {
+            return null;
+        }
+    }
+}
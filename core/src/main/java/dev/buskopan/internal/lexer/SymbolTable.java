@@ -0,0 +1,66 @@
+package dev.buskopan.internal.lexer;
+
+// Tabela de chaves canônicas: a mesma chave repetida em milhares de objetos vira sempre a mesma String.
+// Cada chave é procurada pelo hash dos chars direto no buffer do cursor, e a String só é criada
+// quando a chave ainda não está na tabela.
+// A tabela tem tamanho fixo e cada hash ocupa uma única posição: uma chave nova substitui a anterior
+// na colisão, então entradas hostis (chaves sempre diferentes) não fazem a tabela crescer.
+// As entradas são Strings imutáveis, então a tabela pode ser compartilhada entre threads sem
+// sincronização: no pior caso uma thread não vê a chave que outra acabou de guardar e cria outra igual.
+public final class SymbolTable {
+
+    // Chaves mais longas que isso não são guardadas
+    static final int MAX_KEY_LENGTH = 64;
+
+    private final String[] symbols;
+    private final int mask;
+
+    public SymbolTable(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.symbols = new String[size];
+        this.mask = size - 1;
+    }
+
+    String intern(char[] buf, int start, int end, int hash) {
+        int length = end - start;
+        if (length > MAX_KEY_LENGTH) {
+            return new String(buf, start, length);
+        }
+
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String symbol = symbols[slot];
+        if (symbol != null && symbol.hashCode() == hash && matches(symbol, buf, start, end)) {
+            return symbol;
+        }
+
+        symbol = new String(buf, start, length);
+        symbols[slot] = symbol;
+        return symbol;
+    }
+
+    static int hash(char[] buf, int start, int end) {
+        int hash = 0;
+        for (int k = start; k < end; k++) {
+            hash = 31 * hash + buf[k];
+        }
+        return hash;
+    }
+
+    static boolean matches(String symbol, char[] buf, int start, int end) {
+        if (symbol.length() != end - start) {
+            return false;
+        }
+        for (int k = 0; k < symbol.length(); k++) {
+            if (symbol.charAt(k) != buf[start + k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,628 @@
+package dev.buskopan.internal.lexer;
+
+import dev.buskopan.exception.InvalidCharacterException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Lexer sob demanda: cada chamada de nextType() lê apenas o próximo token da entrada,
+// sem nunca montar a lista completa de tokens.
+// A entrada fica em um buffer de chars; quando vem de um Reader, o buffer tem tamanho fixo
+// e é reabastecido conforme a leitura avança, então a memória não cresce com o tamanho do JSON.
+// O token atual é só um tipo e um intervalo [start, end) do buffer: nenhuma String é criada
+// até alguém chamar text(), então tokens estruturais e valores descartados não alocam nada.
+// Com um StructuralIndex, o cursor pula direto para o início de cada token e para a aspa
+// de fechamento de cada string, sem percorrer espaços e conteúdo de strings.
+public class TokenCursor implements Iterator<Token>, AutoCloseable {
+
+    static final int BUFFER_SIZE = 8192;
+
+    private static final Token INICIO_OBJETO = new Token(TypeToken.INICIO_OBJETO, "{");
+    private static final Token FIM_OBJETO = new Token(TypeToken.FIM_OBJETO, "}");
+    private static final Token INICIO_ARRAY = new Token(TypeToken.INICIO_ARRAY, "[");
+    private static final Token FIM_ARRAY = new Token(TypeToken.FIM_ARRAY, "]");
+    private static final Token VIRGULA = new Token(TypeToken.VIRGULA, ",");
+    private static final Token DOIS_PONTO = new Token(TypeToken.DOIS_PONTO, ":");
+    private static final Token TRUE = new Token(TypeToken.BOOLEANO, "true");
+    private static final Token FALSE = new Token(TypeToken.BOOLEANO, "false");
+    private static final Token NULO = new Token(TypeToken.NULO, "null");
+
+    private final Reader reader;
+    private char[] buf;
+    private int pos = 0;
+    private int limit;
+    private int consumed = 0;
+
+    private TypeToken type;
+    private int start = 0;
+    private int end = 0;
+    private boolean escaped = false;
+    private NumberDecoder numbers;
+    private SymbolTable symbols;
+    // Estado do parser ligado a esta leitura, reaproveitado entre os objetos dela
+    private Object attachment;
+
+    // Só para cursores sobre um StructuralIndex
+    private int[] index;
+    private int lastEntry;
+    private int entry;
+    // Início de um token que o índice não registrou (depois de um espaço fora do ASCII ou colado a um número)
+    private int pending = -1;
+
+    // Entrada já inteira em memória: o cursor lê direto do array, sem copiá-lo
+    TokenCursor(char[] input, int from, int to) {
+        this.reader = null;
+        this.buf = input;
+        this.pos = from;
+        this.start = from;
+        this.end = from;
+        this.limit = to;
+        this.index = null;
+        this.lastEntry = 0;
+    }
+
+    TokenCursor(char[] input, int from, int to, int[] index, int firstEntry, int lastEntry) {
+        this.reader = null;
+        this.buf = input;
+        this.pos = from;
+        this.start = from;
+        this.end = from;
+        this.limit = to;
+        this.index = index;
+        this.entry = firstEntry;
+        this.lastEntry = lastEntry;
+    }
+
+    TokenCursor(Reader reader) {
+        this.reader = reader;
+        this.buf = new char[BUFFER_SIZE];
+        this.limit = 0;
+        this.index = null;
+        this.lastEntry = 0;
+    }
+
+    // Cursor sem entrada, para ser reposicionado com reset() a cada leitura
+    public static TokenCursor reusable() {
+        return new TokenCursor(new char[0], 0, 0);
+    }
+
+    // Só para cursores sobre um array: recomeça em outra entrada, mantendo o decodificador de números e o anexo
+    public TokenCursor reset(char[] input, int from, int to) {
+        return reset(input, from, to, null, 0, 0);
+    }
+
+    TokenCursor reset(char[] input, int from, int to, int[] index, int firstEntry, int lastEntry) {
+        if (reader != null) {
+            throw new IllegalStateException("cursor reads from a Reader");
+        }
+        this.buf = input;
+        this.pos = from;
+        this.start = from;
+        this.end = from;
+        this.limit = to;
+        this.consumed = 0;
+        this.type = null;
+        this.escaped = false;
+        this.index = index;
+        this.entry = firstEntry;
+        this.lastEntry = lastEntry;
+        this.pending = -1;
+        this.symbols = null;
+        return this;
+    }
+
+    public Object attachment() {
+        return attachment;
+    }
+
+    public void attach(Object attachment) {
+        this.attachment = attachment;
+    }
+
+    public int consumed() {
+        return consumed;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (index != null) {
+            return hasNextEntry();
+        }
+        while (ensure(1)) {
+            if (!Character.isWhitespace(buf[pos])) {
+                return true;
+            }
+            pos++;
+        }
+        return false;
+    }
+
+    @Override
+    public Token next() {
+        TypeToken next = nextType();
+        return switch (next) {
+            case INICIO_OBJETO -> INICIO_OBJETO;
+            case FIM_OBJETO -> FIM_OBJETO;
+            case INICIO_ARRAY -> INICIO_ARRAY;
+            case FIM_ARRAY -> FIM_ARRAY;
+            case VIRGULA -> VIRGULA;
+            case DOIS_PONTO -> DOIS_PONTO;
+            case BOOLEANO -> buf[start] == 't' ? TRUE : FALSE;
+            case NULO -> NULO;
+            case TEXTO, NUMERO -> new Token(next, text());
+        };
+    }
+
+    // Avança para o próximo token e devolve só o seu tipo
+    public TypeToken nextType() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (index != null) {
+            return nextEntry();
+        }
+
+        return scan();
+    }
+
+    private TypeToken scan() {
+        char c = buf[pos];
+        consumed++;
+        start = pos;
+
+        switch (c) {
+            case '{':
+                return structural(TypeToken.INICIO_OBJETO);
+            case '}':
+                return structural(TypeToken.FIM_OBJETO);
+            case '[':
+                return structural(TypeToken.INICIO_ARRAY);
+            case ']':
+                return structural(TypeToken.FIM_ARRAY);
+            case ',':
+                return structural(TypeToken.VIRGULA);
+            case ':':
+                return structural(TypeToken.DOIS_PONTO);
+            case '"':
+                return scanString();
+            default:
+                if (Character.isDigit(c) || c == '-') {
+                    return scanNumber();
+                } else if (matches("true") || matches("false")) {
+                    return literal(TypeToken.BOOLEANO, buf[pos] == 't' ? 4 : 5);
+                } else if (matches("null")) {
+                    return literal(TypeToken.NULO, 4);
+                } else {
+                    throw new InvalidCharacterException("Character invalid " + c);
+                }
+        }
+    }
+
+    private boolean hasNextEntry() {
+        if (pending >= 0) {
+            return true;
+        }
+        while (entry < lastEntry) {
+            int p = index[entry];
+            if (!Character.isWhitespace(buf[p])) {
+                return true;
+            }
+
+            // Espaço fora do ASCII: o índice o toma por início de token, o token real (se houver) vem depois
+            while (p < limit && Character.isWhitespace(buf[p])) {
+                p++;
+            }
+            entry++;
+            if (p < nextEntryPosition()) {
+                pending = p;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TypeToken nextEntry() {
+        if (pending >= 0) {
+            pos = pending;
+            pending = -1;
+        } else {
+            pos = index[entry++];
+        }
+
+        if (buf[pos] == '"') {
+            consumed++;
+            start = pos + 1;
+            // A próxima entrada é a aspa de fechamento; sem ela a string vai até o fim da entrada
+            end = entry < lastEntry ? index[entry++] : limit;
+            pos = Math.min(end + 1, limit);
+            return type = TypeToken.TEXTO;
+        }
+
+        TypeToken next = scan();
+        if (next == TypeToken.NUMERO || next == TypeToken.BOOLEANO || next == TypeToken.NULO) {
+            // O índice só marca escalares depois de espaço ou pontuação: o que vier colado ao valor
+            // é lido como próximo token, como na leitura char a char
+            int k = pos;
+            int bound = nextEntryPosition();
+            while (k < bound && Character.isWhitespace(buf[k])) {
+                k++;
+            }
+            if (k < bound) {
+                pending = k;
+            }
+        }
+        return next;
+    }
+
+    private int nextEntryPosition() {
+        return entry < lastEntry ? index[entry] : limit;
+    }
+
+    // Pula o restante do container atual (logo depois do '{' ou '[', ou no meio dele) contando só
+    // chaves e colchetes fora de strings, sem montar tokens nem validar o conteúdo.
+    // O token atual passa a ser o fechamento. Devolve false se a entrada acabar antes dele.
+    public boolean skipContainer() {
+        int depth = 1;
+        pending = -1;
+
+        if (index != null) {
+            while (entry < lastEntry) {
+                char c = buf[index[entry++]];
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if ((c == '}' || c == ']') && --depth == 0) {
+                    pos = index[entry - 1];
+                    return closeContainer(c);
+                }
+            }
+            pos = limit;
+            return false;
+        }
+
+        boolean inString = false;
+        boolean escape = false;
+        while (true) {
+            // Nada antes de pos precisa continuar no buffer
+            start = pos;
+            if (!ensure(1)) {
+                return false;
+            }
+            while (pos < limit) {
+                char c = buf[pos++];
+                if (inString) {
+                    if (escape) {
+                        escape = false;
+                    } else if (c == '\\') {
+                        escape = true;
+                    } else if (c == '"') {
+                        inString = false;
+                    }
+                } else if (c == '"') {
+                    inString = true;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if ((c == '}' || c == ']') && --depth == 0) {
+                    pos--;
+                    return closeContainer(c);
+                }
+            }
+        }
+    }
+
+    private boolean closeContainer(char c) {
+        consumed++;
+        start = pos;
+        structural(c == '}' ? TypeToken.FIM_OBJETO : TypeToken.FIM_ARRAY);
+        return true;
+    }
+
+    public TypeToken type() {
+        return type;
+    }
+
+    // Valor do token atual; só aqui uma String é criada. Deve ser chamado antes de avançar o cursor.
+    public String text() {
+        return switch (type) {
+            case TEXTO -> isEscaped() ? unescape() : new String(buf, start, end - start);
+            case NUMERO -> new String(buf, start, end - start);
+            case BOOLEANO -> buf[start] == 't' ? "true" : "false";
+            case NULO -> "null";
+            default -> String.valueOf(buf[start]);
+        };
+    }
+
+    // Limite para o tamanho do texto do token TEXTO atual: os escapes só encurtam
+    public int rawLength() {
+        return end - start;
+    }
+
+    // Copia o texto do token TEXTO atual, já sem escapes, para dest a partir de at e devolve quantos chars
+    // copiou. Sem escapes, nenhuma String é criada. dest precisa ter pelo menos rawLength() posições livres.
+    public int copyText(char[] dest, int at) {
+        if (!isEscaped()) {
+            System.arraycopy(buf, start, dest, at, end - start);
+            return end - start;
+        }
+        String text = unescape();
+        text.getChars(0, text.length(), dest, at);
+        return text.length();
+    }
+
+    // Chaves de objeto passam pela tabela de símbolos, quando há uma: a mesma chave vira sempre a mesma String
+    public void symbols(SymbolTable symbols) {
+        this.symbols = symbols;
+    }
+
+    // Texto do token TEXTO atual como chave de objeto
+    public String key() {
+        if (symbols == null || isEscaped()) {
+            return text();
+        }
+        return symbols.intern(buf, start, end, SymbolTable.hash(buf, start, end));
+    }
+
+    // Mesmo valor de text().hashCode(), calculado sobre o buffer sem criar a String
+    public int textHash() {
+        return isEscaped() ? text().hashCode() : SymbolTable.hash(buf, start, end);
+    }
+
+    // Mesmo resultado de text().equals(value), comparando direto com o buffer
+    public boolean textEquals(String value) {
+        return isEscaped() ? text().equals(value) : SymbolTable.matches(value, buf, start, end);
+    }
+
+    // Valor do token NUMERO atual lido direto do buffer, sem criar String.
+    // Assim como Long.valueOf/Double.valueOf, lança NumberFormatException se não couber no tipo.
+    public boolean isIntegral() {
+        return NumberDecoder.isIntegral(buf, start, end);
+    }
+
+    public int intValue() {
+        return numbers().parseInt(buf, start, end);
+    }
+
+    public long longValue() {
+        return numbers().parseLong(buf, start, end);
+    }
+
+    public double doubleValue() {
+        return numbers().parseDouble(buf, start, end);
+    }
+
+    public float floatValue() {
+        return numbers().parseFloat(buf, start, end);
+    }
+
+    private NumberDecoder numbers() {
+        if (numbers == null) {
+            numbers = new NumberDecoder();
+        }
+        return numbers;
+    }
+
+    // Fecha a fonte da entrada; só tem efeito para cursores criados a partir de um Reader
+    @Override
+    public void close() {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private TypeToken structural(TypeToken structural) {
+        end = ++pos;
+        return type = structural;
+    }
+
+    private TypeToken literal(TypeToken literal, int length) {
+        pos += length;
+        end = pos;
+        return type = literal;
+    }
+
+    private TypeToken scanString() {
+        pos++;
+        start = pos;
+        escaped = false;
+
+        while (true) {
+            while (pos < limit && buf[pos] != '"' && buf[pos] != '\\') {
+                pos++;
+            }
+            if (pos >= limit) {
+                if (!ensure(1)) {
+                    break;
+                }
+                continue;
+            }
+            if (buf[pos] == '"') {
+                break;
+            }
+
+            // Barra invertida: o próximo char faz parte do escape, mesmo que seja uma aspa
+            escaped = true;
+            pos++;
+            if (!ensure(1)) {
+                break;
+            }
+            pos++;
+        }
+
+        end = pos;
+        if (pos < limit) {
+            pos++;
+        }
+        return type = TypeToken.TEXTO;
+    }
+
+    private TypeToken scanNumber() {
+        while (true) {
+            while (pos < limit && isNumberChar(buf[pos])) {
+                pos++;
+            }
+            if (pos < limit || !ensure(1)) {
+                break;
+            }
+        }
+
+        end = pos;
+        if (!isNumber(start, end)) {
+            throw new InvalidCharacterException("Invalid number " + new String(buf, start, end - start));
+        }
+        return type = TypeToken.NUMERO;
+    }
+
+    // Gramática de número do JSON: -?(0|[1-9][0-9]*)(.[0-9]+)?([eE][+-]?[0-9]+)?
+    private boolean isNumber(int from, int to) {
+        int k = from;
+        if (k < to && buf[k] == '-') {
+            k++;
+        }
+        if (k < to && buf[k] == '0') {
+            k++;
+        } else {
+            int digits = digits(k, to);
+            if (digits == k) {
+                return false;
+            }
+            k = digits;
+        }
+        if (k < to && buf[k] == '.') {
+            int digits = digits(k + 1, to);
+            if (digits == k + 1) {
+                return false;
+            }
+            k = digits;
+        }
+        if (k < to && (buf[k] == 'e' || buf[k] == 'E')) {
+            k++;
+            if (k < to && (buf[k] == '+' || buf[k] == '-')) {
+                k++;
+            }
+            int digits = digits(k, to);
+            if (digits == k) {
+                return false;
+            }
+            k = digits;
+        }
+        return k == to;
+    }
+
+    private int digits(int from, int to) {
+        while (from < to && buf[from] >= '0' && buf[from] <= '9') {
+            from++;
+        }
+        return from;
+    }
+
+    private boolean isEscaped() {
+        return escaped || (index != null && hasBackslash());
+    }
+
+    private boolean hasBackslash() {
+        for (int k = start; k < end; k++) {
+            if (buf[k] == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNumberChar(char c) {
+        return Character.isDigit(c) || c == '.' || c == '-' || c == '+' || c == 'e' || c == 'E';
+    }
+
+    private String unescape() {
+        StringBuilder sb = new StringBuilder(end - start);
+
+        for (int k = start; k < end; k++) {
+            char c = buf[k];
+            if (c != '\\' || k + 1 >= end) {
+                sb.append(c);
+                continue;
+            }
+
+            char e = buf[++k];
+            switch (e) {
+                case '"', '\\', '/' -> sb.append(e);
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    int code = 0;
+                    for (int h = 1; h <= 4; h++) {
+                        int digit = k + h < end ? Character.digit(buf[k + h], 16) : -1;
+                        if (digit < 0) {
+                            throw new InvalidCharacterException("Invalid unicode escape");
+                        }
+                        code = code * 16 + digit;
+                    }
+                    sb.append((char) code);
+                    k += 4;
+                }
+                default -> throw new InvalidCharacterException("Invalid escape \\" + e);
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private boolean matches(String literal) {
+        if (!ensure(literal.length())) {
+            return false;
+        }
+        for (int j = 0; j < literal.length(); j++) {
+            if (buf[pos + j] != literal.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Garante pelo menos n chars disponíveis a partir de pos, lendo mais do Reader se preciso.
+    // O token atual é mantido no buffer (que cresce se o token não couber), para que
+    // start e end continuem válidos.
+    private boolean ensure(int n) {
+        if (limit - pos >= n) {
+            return true;
+        }
+        if (reader == null) {
+            return false;
+        }
+
+        int from = Math.min(start, pos);
+        int remaining = limit - from;
+        System.arraycopy(buf, from, buf, 0, remaining);
+        pos -= from;
+        start -= from;
+        end = Math.max(end - from, 0);
+        limit = remaining;
+
+        try {
+            while (limit - pos < n) {
+                // Deixa espaço para pelo menos um par surrogate por leitura
+                if (buf.length - limit < 2) {
+                    buf = Arrays.copyOf(buf, buf.length * 2);
+                }
+                int read = reader.read(buf, limit, buf.length - limit);
+                if (read < 0) {
+                    return false;
+                }
+                limit += read;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package dev.buskopan.internal.lexer;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+// Classifica 64 chars comparando vários de uma vez com a Vector API (um char = uma lane de 16 bits).
+// Só é carregada quando o módulo jdk.incubator.vector está presente.
+final class VectorBlockClassifier implements BlockClassifier {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+    static boolean supported() {
+        return SPECIES.length() <= 64 && 64 % SPECIES.length() == 0;
+    }
+
+    @Override
+    public void classify(char[] buf, int offset, int length, long[] masks) {
+        if (length < 64) {
+            ScalarBlockClassifier.INSTANCE.classify(buf, offset, length, masks);
+            return;
+        }
+
+        long quote = 0;
+        long backslash = 0;
+        long structural = 0;
+        long whitespace = 0;
+
+        for (int j = 0; j < 64; j += SPECIES.length()) {
+            ShortVector v = ShortVector.fromCharArray(SPECIES, buf, offset + j);
+
+            // '{' '}' e '[' ']' diferem só no bit 0x20: com ele ligado sobram duas comparações
+            ShortVector lower = v.or((short) 0x20);
+            VectorMask<Short> brackets = lower.eq((short) '{').or(lower.eq((short) '}'));
+            VectorMask<Short> separators = v.eq((short) ':').or(v.eq((short) ','));
+            VectorMask<Short> spaces = v.eq((short) ' ').or(v.eq((short) '\n'))
+                    .or(v.eq((short) '\r')).or(v.eq((short) '\t'));
+
+            quote |= v.eq((short) '"').toLong() << j;
+            backslash |= v.eq((short) '\\').toLong() << j;
+            structural |= brackets.or(separators).toLong() << j;
+            whitespace |= spaces.toLong() << j;
+        }
+
+        masks[QUOTE] = quote;
+        masks[BACKSLASH] = backslash;
+        masks[STRUCTURAL] = structural;
+        masks[WHITESPACE] = whitespace;
+    }
+}
@@ -0,0 +1,137 @@
+package dev.buskopan.internal.parser;
+
+import dev.buskopan.binder.JsonReader;
+import dev.buskopan.exception.ConvertToObjectException;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.lexer.TypeToken;
+
+import java.util.List;
+
+// JsonReader sobre o cursor do binding direto. Usado pelo ToObject depois de ler o token da primeira chave;
+// cada valor passa pelas mesmas conversões de um campo no binding por reflexão.
+final class BinderReader implements JsonReader {
+
+    private final TokenCursor cursor;
+    private final ToObject toObject;
+    private final TreeParser treeParser;
+    private boolean first = true;
+    // Token já lido por skipIfArray, ainda não consumido
+    private TypeToken pending;
+
+    BinderReader(TokenCursor cursor, ToObject toObject, TreeParser treeParser) {
+        this.cursor = cursor;
+        this.toObject = toObject;
+        this.treeParser = treeParser;
+    }
+
+    // Para o próximo objeto, logo depois do token da primeira chave dele
+    BinderReader restart() {
+        first = true;
+        pending = null;
+        return this;
+    }
+
+    @Override
+    public String nextField() {
+        if (first) {
+            first = false;
+        } else if (!treeParser.hasNextMember(cursor) || !treeParser.readKeyToken(cursor)) {
+            return null;
+        }
+
+        String key = cursor.key();
+        treeParser.readColon(cursor);
+        return key;
+    }
+
+    @Override
+    public int readInt() {
+        TypeToken token = nextType();
+        if (token.equals(TypeToken.NUMERO)) {
+            return cursor.intValue();
+        }
+        return (Integer) primitive(token, int.class);
+    }
+
+    @Override
+    public long readLong() {
+        TypeToken token = nextType();
+        if (token.equals(TypeToken.NUMERO)) {
+            return cursor.longValue();
+        }
+        return (Long) primitive(token, long.class);
+    }
+
+    @Override
+    public double readDouble() {
+        TypeToken token = nextType();
+        if (token.equals(TypeToken.NUMERO)) {
+            return cursor.doubleValue();
+        }
+        return (Double) primitive(token, double.class);
+    }
+
+    @Override
+    public float readFloat() {
+        TypeToken token = nextType();
+        if (token.equals(TypeToken.NUMERO)) {
+            return cursor.floatValue();
+        }
+        return (Float) primitive(token, float.class);
+    }
+
+    @Override
+    public boolean readBoolean() {
+        return (Boolean) primitive(nextType(), boolean.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T read(Class<T> type) {
+        return (T) toObject.readField(nextType(), cursor, type, Object.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> readList(Class<T> elementType) {
+        return (List<T>) toObject.readField(nextType(), cursor, List.class, elementType);
+    }
+
+    @Override
+    public String readComposite(String... keys) {
+        return toObject.compositeValue(treeParser.parseValue(nextType(), cursor), keys);
+    }
+
+    @Override
+    public void skipValue() {
+        treeParser.skipValue(nextType(), cursor);
+    }
+
+    @Override
+    public boolean skipIfArray() {
+        TypeToken token = nextType();
+        if (token.equals(TypeToken.INICIO_ARRAY)) {
+            treeParser.skipValue(token, cursor);
+            return true;
+        }
+        pending = token;
+        return false;
+    }
+
+    private TypeToken nextType() {
+        if (pending == null) {
+            return cursor.nextType();
+        }
+        TypeToken token = pending;
+        pending = null;
+        return token;
+    }
+
+    private Object primitive(TypeToken token, Class<?> type) {
+        Object value = toObject.readField(token, cursor, type, Object.class);
+        if (value == null) {
+            throw new ConvertToObjectException("cannot assign null to a field of type " + type);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,72 @@
+package dev.buskopan.internal.parser;
+
+import dev.buskopan.binder.JsonBinder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+// Binder de cada classe alvo, resolvido uma vez: o gerado em tempo de compilação (procurado no class loader
+// dela), senão um gerado agora pelo RuntimeBinders, senão nenhum e a classe fica com a reflexão
+final class BinderRegistry {
+
+    private static final ClassValue<Optional<JsonBinder<?>>> BINDERS = new ClassValue<>() {
+        @Override
+        protected Optional<JsonBinder<?>> computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    // Binders registrados em cada class loader, por classe alvo: cada serviço é instanciado uma vez só
+    private static final Map<ClassLoader, Map<Class<?>, JsonBinder<?>>> REGISTERED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private BinderRegistry() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> JsonBinder<T> find(Class<T> type) {
+        return (JsonBinder<T>) BINDERS.get(type).orElse(null);
+    }
+
+    private static Optional<JsonBinder<?>> load(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return Optional.empty();
+        }
+
+        JsonBinder<?> registered = REGISTERED.computeIfAbsent(loader, BinderRegistry::registered).get(type);
+        if (registered != null) {
+            return Optional.of(registered);
+        }
+
+        // Qualquer falha ao gerar a classe (não só as recusas do RuntimeBinders) deixa a classe na reflexão
+        try {
+            return Optional.of(RuntimeBinders.define(type));
+        } catch (RuntimeException | LinkageError ex) {
+            return Optional.empty();
+        }
+    }
+
+    // Uma entrada quebrada em META-INF/services (classe que não existe, não instancia...) é só ignorada;
+    // o iterador do ServiceLoader segue para a próxima depois do erro
+    private static Map<Class<?>, JsonBinder<?>> registered(ClassLoader loader) {
+        Map<Class<?>, JsonBinder<?>> binders = new HashMap<>();
+        Iterator<JsonBinder> services = ServiceLoader.load(JsonBinder.class, loader).iterator();
+        while (true) {
+            try {
+                if (!services.hasNext()) {
+                    return binders;
+                }
+                JsonBinder<?> binder = services.next();
+                binders.putIfAbsent(binder.type(), binder);
+            } catch (ServiceConfigurationError ex) {
+                // Próxima entrada
+            }
+        }
+    }
+}
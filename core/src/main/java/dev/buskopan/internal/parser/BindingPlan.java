@@ -0,0 +1,307 @@
+package dev.buskopan.internal.parser;
+
+import dev.buskopan.annotation.JsonFieldAnnotation;
+import dev.buskopan.exception.ConvertToObjectException;
+import dev.buskopan.internal.lexer.TokenCursor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Plano de binding de uma classe: construtor e slots de campo resolvidos uma vez e reaproveitados
+// em todas as conversões seguintes. Records e classes sem construtor vazio (campos final preenchidos
+// pelo construtor) são criados pelo construtor que recebe todos os campos: os valores são juntados
+// em um array de argumentos, na ordem dos slots, e o construtor é chamado uma vez no final.
+// Nos records a ordem é a dos componentes; nas outras classes cada parâmetro é ligado a um campo pelo nome.
+final class BindingPlan {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType ARGUMENTS_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<BindingPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected BindingPlan computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private static final int[] NO_SLOTS = new int[0];
+
+    private final MethodHandle constructor;
+    // (Object[])Object sobre o construtor com todos os campos, ou null se a classe usa o construtor vazio
+    private final MethodHandle argumentsConstructor;
+    private final FieldSlot[] slots;
+
+    // Tabela aberta (sondagem linear) das chaves JSON, com no máximo metade das posições ocupadas
+    private final String[] keys;
+    private final int[][] slotsByKey;
+    private final int mask;
+
+    private BindingPlan(MethodHandle constructor, MethodHandle argumentsConstructor, FieldSlot[] slots) {
+        this.constructor = constructor;
+        this.argumentsConstructor = argumentsConstructor;
+        this.slots = slots;
+
+        Map<String, int[]> grouped = new LinkedHashMap<>();
+        for (int i = 0; i < slots.length; i++) {
+            int[] previous = grouped.getOrDefault(slots[i].key(), NO_SLOTS);
+            int[] indexes = Arrays.copyOf(previous, previous.length + 1);
+            indexes[previous.length] = i;
+            grouped.put(slots[i].key(), indexes);
+        }
+
+        int size = Integer.highestOneBit(Math.max(1, grouped.size()) * 2) * 2;
+        this.keys = new String[size];
+        this.slotsByKey = new int[size][];
+        this.mask = size - 1;
+
+        for (Map.Entry<String, int[]> entry : grouped.entrySet()) {
+            int i = spread(entry.getKey().hashCode()) & mask;
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = entry.getKey();
+            slotsByKey[i] = entry.getValue();
+        }
+    }
+
+    static BindingPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    FieldSlot[] slots() {
+        return slots;
+    }
+
+    // Índices dos slots ligados à chave no token atual do cursor (normalmente um só)
+    int[] slotsFor(TokenCursor cursor) {
+        int hash = cursor.textHash();
+        for (int i = spread(hash) & mask; keys[i] != null; i = (i + 1) & mask) {
+            if (keys[i].hashCode() == hash && cursor.textEquals(keys[i])) {
+                return slotsByKey[i];
+            }
+        }
+        return NO_SLOTS;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    Object newInstance() {
+        try {
+            return constructor.invokeExact();
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ConvertToObjectException(ex.getMessage());
+        }
+    }
+
+    // Os valores são passados ao construtor em vez de gravados nos campos
+    boolean usesConstructor() {
+        return argumentsConstructor != null;
+    }
+
+    // Um argumento por slot, todos null: campos ausentes ficam null (e primitivos ausentes são erro)
+    Object[] arguments() {
+        return new Object[slots.length];
+    }
+
+    Object newInstance(Object[] arguments) {
+        for (int i = 0; i < slots.length; i++) {
+            if (arguments[i] == null && slots[i].type().isPrimitive()) {
+                throw new ConvertToObjectException("missing value for primitive field " + slots[i].key());
+            }
+        }
+        try {
+            return argumentsConstructor.invokeExact(arguments);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ConvertToObjectException(ex.getMessage());
+        }
+    }
+
+    private static BindingPlan create(Class<?> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            List<Field> fields = fields(type);
+            Constructor<?> allFields = null;
+            if (type.isRecord()) {
+                allFields = type.getDeclaredConstructor(fieldTypes(fields));
+            } else if (!hasPublicNoArgConstructor(type)) {
+                allFields = namedConstructor(type, fields);
+            }
+
+            MethodHandle constructor = null;
+            MethodHandle argumentsConstructor = null;
+            if (allFields == null) {
+                constructor = lookup.unreflectConstructor(type.getConstructor()).asType(CONSTRUCTOR_TYPE);
+            } else {
+                allFields.setAccessible(true);
+                argumentsConstructor = lookup.unreflectConstructor(allFields)
+                        .asSpreader(Object[].class, fields.size())
+                        .asType(ARGUMENTS_CONSTRUCTOR_TYPE);
+            }
+
+            List<FieldSlot> slots = new ArrayList<>();
+
+            for (Field field : fields) {
+                field.setAccessible(true);
+
+                JsonFieldAnnotation annotation = field.getAnnotation(JsonFieldAnnotation.class);
+                String key = annotation != null ? annotation.value() : field.getName();
+                String[] composite = annotation != null ? annotation.composite() : new String[0];
+                // Campos preenchidos pelo construtor (os de record nem podem ser gravados) não têm setter
+                MethodHandle setter = null;
+                MethodHandle primitiveSetter = null;
+                if (allFields == null) {
+                    MethodHandle fieldSetter = lookup.unreflectSetter(field);
+                    setter = fieldSetter.asType(SETTER_TYPE);
+                    primitiveSetter = field.getType().isPrimitive()
+                            ? fieldSetter.asType(MethodType.methodType(void.class, Object.class, field.getType()))
+                            : null;
+                }
+
+                slots.add(new FieldSlot(key, composite, field.getType(), getListComponentType(field), setter, primitiveSetter));
+            }
+
+            return new BindingPlan(constructor, argumentsConstructor, slots.toArray(new FieldSlot[0]));
+        } catch (ConvertToObjectException ex) {
+            throw ex;
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            throw new ConvertToObjectException("Error during object conversion: " + ex.getMessage());
+        }
+    }
+
+    // Campos não estáticos; nos records, na ordem dos componentes (a do construtor canônico)
+    private static List<Field> fields(Class<?> type) throws NoSuchFieldException {
+        List<Field> fields = new ArrayList<>();
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                fields.add(type.getDeclaredField(component.getName()));
+            }
+            return fields;
+        }
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static boolean hasPublicNoArgConstructor(Class<?> type) {
+        try {
+            type.getConstructor();
+            return true;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    private static Class<?>[] fieldTypes(List<Field> fields) {
+        Class<?>[] types = new Class<?>[fields.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = fields.get(i).getType();
+        }
+        return types;
+    }
+
+    // Construtor que recebe todos os campos, cada parâmetro ligado a um campo pelo nome (compilado com
+    // -parameters) ou pela chave do JsonFieldAnnotation no parâmetro. A ordem de getDeclaredFields() não é
+    // garantida, então os tipos sozinhos não bastam. fields fica na ordem dos parâmetros.
+    private static Constructor<?> namedConstructor(Class<?> type, List<Field> fields) {
+        Constructor<?> found = null;
+        List<Field> order = null;
+        boolean unnamed = false;
+
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() != fields.size()) {
+                continue;
+            }
+
+            List<Field> matched = new ArrayList<>();
+            for (Parameter parameter : constructor.getParameters()) {
+                JsonFieldAnnotation annotation = parameter.getAnnotation(JsonFieldAnnotation.class);
+                if (annotation == null && !parameter.isNamePresent()) {
+                    unnamed = true;
+                    matched = null;
+                    break;
+                }
+                Field field = annotation != null ? fieldWithKey(fields, annotation.value()) : fieldNamed(fields, parameter.getName());
+                if (field == null || field.getType() != parameter.getType() || matched.contains(field)) {
+                    matched = null;
+                    break;
+                }
+                matched.add(field);
+            }
+
+            if (matched != null) {
+                if (found != null) {
+                    throw new ConvertToObjectException("more than one constructor of " + type.getName() + " matches its fields");
+                }
+                found = constructor;
+                order = matched;
+            }
+        }
+
+        if (found == null) {
+            throw new ConvertToObjectException(unnamed
+                    ? "constructor parameters of " + type.getName() + " have no names: compile with -parameters or annotate them with @JsonFieldAnnotation"
+                    : type.getName() + " has no public no-arg constructor nor a constructor taking all its fields");
+        }
+        fields.clear();
+        fields.addAll(order);
+        return found;
+    }
+
+    private static Field fieldNamed(List<Field> fields, String name) {
+        for (Field field : fields) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static Field fieldWithKey(List<Field> fields, String key) {
+        for (Field field : fields) {
+            JsonFieldAnnotation annotation = field.getAnnotation(JsonFieldAnnotation.class);
+            if ((annotation != null ? annotation.value() : field.getName()).equals(key)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    static Class<?> getListComponentType(Field field) {
+        if (List.class.isAssignableFrom(field.getType())) {
+            Type genericType = field.getGenericType();
+            if (genericType instanceof ParameterizedType parameterizedType) {
+                Type[] typeArguments = parameterizedType.getActualTypeArguments();
+                if (typeArguments.length == 1) {
+                    Type componentType = typeArguments[0];
+                    if (componentType instanceof Class<?> clazz) {
+                        return clazz;
+                    }
+                }
+            }
+        }
+        return Object.class;
+    }
+}
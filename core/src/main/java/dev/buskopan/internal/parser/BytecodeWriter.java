@@ -0,0 +1,401 @@
+package dev.buskopan.internal.parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Montador mínimo de class files, só com o que os binders em tempo de execução precisam:
+// pool de constantes, métodos com um atributo Code e desvios por rótulo.
+// Os métodos gerados declaram todas as variáveis locais logo no início, então todo destino de
+// desvio tem o mesmo frame (mesmas locais, pilha vazia) e a StackMapTable sai sem análise de fluxo.
+final class BytecodeWriter {
+
+    static final int ACONST_NULL = 0x01;
+    static final int ICONST_0 = 0x03;
+    static final int LCONST_0 = 0x09;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+    static final int LLOAD = 0x16;
+    static final int ALOAD_0 = 0x2A;
+    static final int ALOAD_1 = 0x2B;
+    static final int ALOAD_2 = 0x2C;
+    static final int ALOAD_3 = 0x2D;
+    static final int LSTORE = 0x37;
+    static final int ASTORE_2 = 0x4D;
+    static final int ASTORE_3 = 0x4E;
+    static final int AASTORE = 0x53;
+    static final int DUP = 0x59;
+    static final int LAND = 0x7F;
+    static final int LOR = 0x81;
+    static final int LCMP = 0x94;
+    static final int IFEQ = 0x99;
+    static final int IFNE = 0x9A;
+    static final int GOTO = 0xA7;
+    static final int LOOKUPSWITCH = 0xAB;
+    static final int ARETURN = 0xB0;
+    static final int RETURN = 0xB1;
+    static final int PUTFIELD = 0xB5;
+    static final int INVOKEVIRTUAL = 0xB6;
+    static final int INVOKESPECIAL = 0xB7;
+    static final int INVOKEINTERFACE = 0xB9;
+    static final int NEW = 0xBB;
+    static final int ANEWARRAY = 0xBD;
+    static final int ATHROW = 0xBF;
+    static final int CHECKCAST = 0xC0;
+    static final int IFNULL = 0xC6;
+
+    // Marca uma local long no frame passado para method()
+    static final int LONG = -1;
+
+    private static final int JAVA_21 = 65;
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private final Map<String, Integer> constants = new HashMap<>();
+    private int poolCount = 1;
+
+    private final List<byte[]> methods = new ArrayList<>();
+
+    int utf8(String value) {
+        return constant("U" + value, () -> {
+            pool.writeByte(1);
+            pool.writeUTF(value);
+        }, 1);
+    }
+
+    int classRef(String internalName) {
+        int name = utf8(internalName);
+        return constant("C" + internalName, () -> {
+            pool.writeByte(7);
+            pool.writeShort(name);
+        }, 1);
+    }
+
+    int string(String value) {
+        int utf8 = utf8(value);
+        return constant("S" + value, () -> {
+            pool.writeByte(8);
+            pool.writeShort(utf8);
+        }, 1);
+    }
+
+    int longConstant(long value) {
+        // Long ocupa duas posições no pool
+        return constant("J" + value, () -> {
+            pool.writeByte(5);
+            pool.writeLong(value);
+        }, 2);
+    }
+
+    int fieldRef(String owner, String name, String descriptor) {
+        return memberRef(9, owner, name, descriptor);
+    }
+
+    int methodRef(String owner, String name, String descriptor) {
+        return memberRef(10, owner, name, descriptor);
+    }
+
+    int interfaceMethodRef(String owner, String name, String descriptor) {
+        return memberRef(11, owner, name, descriptor);
+    }
+
+    private int memberRef(int tag, String owner, String name, String descriptor) {
+        int ownerIndex = classRef(owner);
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        int nameAndType = constant("N" + name + " " + descriptor, () -> {
+            pool.writeByte(12);
+            pool.writeShort(nameIndex);
+            pool.writeShort(descriptorIndex);
+        }, 1);
+        return constant(tag + owner + "." + name + " " + descriptor, () -> {
+            pool.writeByte(tag);
+            pool.writeShort(ownerIndex);
+            pool.writeShort(nameAndType);
+        }, 1);
+    }
+
+    private interface PoolEntry {
+        void write() throws IOException;
+    }
+
+    private int constant(String key, PoolEntry entry, int slots) {
+        Integer index = constants.get(key);
+        if (index != null) {
+            return index;
+        }
+        try {
+            entry.write();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        int created = poolCount;
+        poolCount += slots;
+        constants.put(key, created);
+        return created;
+    }
+
+    // Um método público; o frame dos destinos de desvio é informado em frameLocals (índices de classe do pool,
+    // ou LONG para uma local long)
+    void method(String name, String descriptor, Code code, int maxStack, int maxLocals, int[] frameLocals) {
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        int codeName = utf8("Code");
+        int frameName = code.frames.isEmpty() ? 0 : utf8("StackMapTable");
+        byte[] bytecode = code.toByteArray();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            byte[] frames = code.frames.isEmpty() ? null : stackMapTable(code, frameLocals);
+
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+            out.writeShort(1);
+
+            out.writeShort(codeName);
+            out.writeInt(12 + bytecode.length + (frames == null ? 0 : 6 + frames.length));
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(bytecode.length);
+            out.write(bytecode);
+            out.writeShort(0);
+            if (frames == null) {
+                out.writeShort(0);
+            } else {
+                out.writeShort(1);
+                out.writeShort(frameName);
+                out.writeInt(frames.length);
+                out.write(frames);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        methods.add(bytes.toByteArray());
+    }
+
+    private static byte[] stackMapTable(Code code, int[] locals) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(code.frames.size());
+
+        int previous = -1;
+        for (int offset : code.frames) {
+            if (previous < 0) {
+                // full_frame com as locals do método e pilha vazia
+                out.writeByte(255);
+                out.writeShort(offset);
+                out.writeShort(locals.length);
+                for (int local : locals) {
+                    if (local == LONG) {
+                        out.writeByte(4);
+                    } else {
+                        out.writeByte(7);
+                        out.writeShort(local);
+                    }
+                }
+                out.writeShort(0);
+            } else {
+                int delta = offset - previous - 1;
+                if (delta < 64) {
+                    out.writeByte(delta);
+                } else {
+                    out.writeByte(251);
+                    out.writeShort(delta);
+                }
+            }
+            previous = offset;
+        }
+        return bytes.toByteArray();
+    }
+
+    byte[] toClassFile(String name, String superName, String interfaceName) {
+        int thisClass = classRef(name);
+        int superClass = classRef(superName);
+        int interfaceClass = classRef(interfaceName);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(JAVA_21);
+            out.writeShort(poolCount);
+            pool.flush();
+            out.write(poolBytes.toByteArray());
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(interfaceClass);
+            out.writeShort(0);
+            out.writeShort(methods.size());
+            for (byte[] method : methods) {
+                out.write(method);
+            }
+            out.writeShort(0);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    static final class Label {
+        private int position = -1;
+        // Posição da instrução e do campo de deslocamento a corrigir, e a largura dele (2 ou 4)
+        private final List<int[]> fixups = new ArrayList<>();
+    }
+
+    // Bytecode de um método
+    static final class Code {
+
+        private byte[] code = new byte[256];
+        private int length;
+        private final List<Integer> frames = new ArrayList<>();
+
+        void op(int opcode) {
+            u1(opcode);
+        }
+
+        void op(int opcode, int u2) {
+            u1(opcode);
+            u2(u2);
+        }
+
+        void local(int opcode, int index) {
+            u1(opcode);
+            u1(index);
+        }
+
+        void invokeInterface(int methodRef, int argumentSlots) {
+            u1(INVOKEINTERFACE);
+            u2(methodRef);
+            u1(argumentSlots + 1);
+            u1(0);
+        }
+
+        void ldc(int constant) {
+            if (constant < 256) {
+                u1(0x12);
+                u1(constant);
+            } else {
+                u1(0x13);
+                u2(constant);
+            }
+        }
+
+        void ldc2(int constant) {
+            u1(0x14);
+            u2(constant);
+        }
+
+        void pushInt(int value) {
+            if (value >= -1 && value <= 5) {
+                u1(ICONST_0 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                u1(BIPUSH);
+                u1(value);
+            } else {
+                u1(SIPUSH);
+                u2(value);
+            }
+        }
+
+        // Marca a posição atual como destino de desvio (com frame)
+        void mark(Label label) {
+            label.position = length;
+            if (frames.isEmpty() || frames.getLast() != length) {
+                frames.add(length);
+            }
+            for (int[] fixup : label.fixups) {
+                patch(fixup[1], length - fixup[0], fixup[2]);
+            }
+        }
+
+        void jump(int opcode, Label target) {
+            int at = length;
+            u1(opcode);
+            reference(at, target, 2);
+        }
+
+        // keys em ordem crescente
+        void lookupSwitch(int[] keys, Label[] targets, Label fallback) {
+            int at = length;
+            u1(LOOKUPSWITCH);
+            while (length % 4 != 0) {
+                u1(0);
+            }
+            reference(at, fallback, 4);
+            u4(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                u4(keys[i]);
+                reference(at, targets[i], 4);
+            }
+        }
+
+        private void reference(int instruction, Label target, int width) {
+            if (target.position >= 0) {
+                int at = length;
+                if (width == 2) {
+                    u2(0);
+                } else {
+                    u4(0);
+                }
+                patch(at, target.position - instruction, width);
+            } else {
+                target.fixups.add(new int[]{instruction, length, width});
+                if (width == 2) {
+                    u2(0);
+                } else {
+                    u4(0);
+                }
+            }
+        }
+
+        private void patch(int at, int value, int width) {
+            if (width == 2) {
+                if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+                    throw new IllegalStateException("method too large");
+                }
+                code[at] = (byte) (value >> 8);
+                code[at + 1] = (byte) value;
+            } else {
+                code[at] = (byte) (value >> 24);
+                code[at + 1] = (byte) (value >> 16);
+                code[at + 2] = (byte) (value >> 8);
+                code[at + 3] = (byte) value;
+            }
+        }
+
+        private void u1(int value) {
+            if (length == code.length) {
+                code = Arrays.copyOf(code, length * 2);
+            }
+            code[length++] = (byte) value;
+        }
+
+        private void u2(int value) {
+            u1(value >> 8);
+            u1(value);
+        }
+
+        private void u4(int value) {
+            u2(value >> 16);
+            u2(value);
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(code, length);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package dev.buskopan.internal.parser;
+
+import dev.buskopan.exception.InvalidSyntaxException;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.lexer.TypeToken;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Percorre um array JSON convertendo um elemento por vez. O cursor só avança quando o próximo
+// elemento é pedido, então o primeiro elemento fica disponível antes do resto da entrada ser lido.
+final class ElementIterator<T> implements Iterator<T> {
+
+    private final TokenCursor cursor;
+    private final Class<T> target;
+    private final boolean direct;
+    private final ToObject toObject;
+    private final TreeParser treeParser;
+
+    private T next;
+    private boolean opened;
+    private boolean first = true;
+    private boolean done = false;
+
+    // opened indica se o '[' de abertura já foi consumido do cursor
+    ElementIterator(TokenCursor cursor, Class<T> target, boolean direct, boolean opened, ToObject toObject, TreeParser treeParser) {
+        this.cursor = cursor;
+        this.target = target;
+        this.direct = direct;
+        this.opened = opened;
+        this.toObject = toObject;
+        this.treeParser = treeParser;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !done) {
+            advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T element = next;
+        next = null;
+        return element;
+    }
+
+    private void advance() {
+        if (!opened) {
+            if (!treeParser.first(cursor).equals(TypeToken.INICIO_ARRAY)) {
+                throw new InvalidSyntaxException("expected JSON array");
+            }
+            opened = true;
+        }
+
+        // O separador do elemento anterior só é lido agora, quando o próximo é pedido
+        if (!first && !treeParser.hasNextElement(cursor)) {
+            done = true;
+            return;
+        }
+        first = false;
+
+        if (!cursor.hasNext()) {
+            throw new InvalidSyntaxException("expected ] or value");
+        }
+
+        TypeToken token = cursor.nextType();
+        if (token.equals(TypeToken.FIM_ARRAY)) {
+            done = true;
+            return;
+        }
+
+        next = toObject.readElement(token, cursor, target, direct);
+    }
+}
@@ -0,0 +1,98 @@
+package dev.buskopan.internal.parser;
+
+import dev.buskopan.exception.ConvertToObjectException;
+
+import java.lang.invoke.MethodHandle;
+
+// Tudo o que o binder precisa saber sobre um campo, calculado uma única vez por classe.
+final class FieldSlot {
+
+    private final String key;
+    private final String[] composite;
+    private final Class<?> type;
+    private final Class<?> elementType;
+    private final MethodHandle setter;
+    // Setter com o tipo exato do campo, (Object, int)void etc., só para campos primitivos
+    private final MethodHandle primitiveSetter;
+
+    FieldSlot(String key, String[] composite, Class<?> type, Class<?> elementType,
+              MethodHandle setter, MethodHandle primitiveSetter) {
+        this.key = key;
+        this.composite = composite;
+        this.type = type;
+        this.elementType = elementType;
+        this.setter = setter;
+        this.primitiveSetter = primitiveSetter;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String[] composite() {
+        return composite;
+    }
+
+    boolean isComposite() {
+        return composite.length > 0;
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    Class<?> elementType() {
+        return elementType;
+    }
+
+    void set(Object instance, Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    // Setters sem boxing; só valem para campos do tipo primitivo correspondente
+    void setInt(Object instance, int value) {
+        try {
+            primitiveSetter.invokeExact(instance, value);
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    void setLong(Object instance, long value) {
+        try {
+            primitiveSetter.invokeExact(instance, value);
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    void setDouble(Object instance, double value) {
+        try {
+            primitiveSetter.invokeExact(instance, value);
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    void setFloat(Object instance, float value) {
+        try {
+            primitiveSetter.invokeExact(instance, value);
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable ex) {
+        if (ex instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (ex instanceof Error error) {
+            throw error;
+        }
+        return new ConvertToObjectException(ex.getMessage());
+    }
+}
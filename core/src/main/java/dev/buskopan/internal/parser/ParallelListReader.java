@@ -0,0 +1,92 @@
+package dev.buskopan.internal.parser;
+
+import dev.buskopan.exception.InvalidSyntaxException;
+import dev.buskopan.internal.lexer.StructuralIndex;
+import dev.buskopan.internal.lexer.SymbolTable;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.lexer.TypeToken;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// Divide um array na raiz nos limites dos elementos (achados no índice estrutural)
+// e converte blocos de elementos em paralelo, devolvendo tudo na ordem original.
+public class ParallelListReader {
+
+    private static final ParallelListReader INSTANCE = new ParallelListReader();
+
+    // Cada thread recebe alguns blocos, para equilibrar elementos de tamanhos diferentes
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final TreeParser treeParser = TreeParser.getInstance();
+
+    private ParallelListReader() {
+    }
+
+    public static ParallelListReader getInstance() {
+        return INSTANCE;
+    }
+
+    public <T> List<T> readList(char[] chars, int from, int to, Class<T> target, boolean direct, ForkJoinPool pool,
+                                SymbolTable symbols, ToObject toObject) {
+        StructuralIndex index = StructuralIndex.build(chars, from, to);
+        int[] marks = index.splitArray();
+
+        // Se a estrutura não fecha, a leitura sequencial gera o erro de sintaxe correto
+        if (marks == null) {
+            TokenCursor cursor = index.cursor();
+            cursor.symbols(symbols);
+            if (direct) {
+                return toObject.readList(cursor, target);
+            }
+            return toObject.convertList((List<?>) treeParser.parse(cursor), target);
+        }
+
+        int elements = marks.length - 1;
+        int chunks = Math.max(1, Math.min(elements, pool.getParallelism() * CHUNKS_PER_THREAD));
+        List<ForkJoinTask<List<T>>> tasks = new ArrayList<>(chunks);
+
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int first = (int) ((long) elements * chunk / chunks);
+            int last = (int) ((long) elements * (chunk + 1) / chunks);
+            tasks.add(pool.submit(() -> readElements(index, marks, first, last, target, direct, symbols, toObject)));
+        }
+
+        List<T> result = new ArrayList<>(elements);
+        for (ForkJoinTask<List<T>> task : tasks) {
+            result.addAll(task.join());
+        }
+        return result;
+    }
+
+    private <T> List<T> readElements(StructuralIndex index, int[] marks, int first, int last, Class<T> target, boolean direct,
+                                     SymbolTable symbols, ToObject toObject) {
+        List<T> list = new ArrayList<>(last - first);
+
+        for (int i = first; i < last; i++) {
+            TokenCursor cursor = index.cursor(marks[i] + 1, marks[i + 1]);
+            cursor.symbols(symbols);
+
+            if (!cursor.hasNext()) {
+                // Só o último espaço pode ficar vazio: "[]" ou a vírgula final de "[1,]"
+                if (i == marks.length - 2) {
+                    continue;
+                }
+                throw new InvalidSyntaxException("invalid token: " + TypeToken.VIRGULA.name());
+            }
+
+            T element = toObject.readElement(cursor.nextType(), cursor, target, direct);
+            if (element != null) {
+                list.add(element);
+            }
+
+            if (cursor.hasNext()) {
+                throw new InvalidSyntaxException("expected ',' or ']'");
+            }
+        }
+
+        return list;
+    }
+}
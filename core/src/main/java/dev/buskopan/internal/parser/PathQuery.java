@@ -0,0 +1,97 @@
+package dev.buskopan.internal.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Caminho compilado: uma sequência de passos a partir da raiz ($).
+// Suporta .campo, ['campo'], ["campo"], [n], [*] e .*; busca recursiva (..) não é suportada.
+public final class PathQuery {
+
+    enum Kind { FIELD, INDEX, WILDCARD }
+
+    record Step(Kind kind, String name, int index) {
+    }
+
+    private final String path;
+    private final Step[] steps;
+
+    private PathQuery(String path, Step[] steps) {
+        this.path = path;
+        this.steps = steps;
+    }
+
+    public static PathQuery compile(String path) {
+        if (path == null || !path.startsWith("$")) {
+            throw new IllegalArgumentException("JSON path must start with $: " + path);
+        }
+
+        List<Step> steps = new ArrayList<>();
+        int i = 1;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                i++;
+                if (i < path.length() && path.charAt(i) == '*') {
+                    steps.add(new Step(Kind.WILDCARD, null, -1));
+                    i++;
+                    continue;
+                }
+                int start = i;
+                while (i < path.length() && path.charAt(i) != '.' && path.charAt(i) != '[') {
+                    i++;
+                }
+                if (i == start) {
+                    throw invalid(path, start);
+                }
+                steps.add(new Step(Kind.FIELD, path.substring(start, i), -1));
+            } else if (c == '[') {
+                i++;
+                if (i >= path.length()) {
+                    throw invalid(path, i);
+                }
+                char next = path.charAt(i);
+                if (next == '*') {
+                    steps.add(new Step(Kind.WILDCARD, null, -1));
+                    i++;
+                } else if (next == '\'' || next == '"') {
+                    int end = path.indexOf(next, i + 1);
+                    if (end < 0) {
+                        throw invalid(path, i);
+                    }
+                    steps.add(new Step(Kind.FIELD, path.substring(i + 1, end), -1));
+                    i = end + 1;
+                } else {
+                    int start = i;
+                    while (i < path.length() && Character.isDigit(path.charAt(i))) {
+                        i++;
+                    }
+                    if (i == start) {
+                        throw invalid(path, start);
+                    }
+                    steps.add(new Step(Kind.INDEX, null, Integer.parseInt(path.substring(start, i))));
+                }
+                if (i >= path.length() || path.charAt(i) != ']') {
+                    throw invalid(path, i);
+                }
+                i++;
+            } else {
+                throw invalid(path, i);
+            }
+        }
+
+        return new PathQuery(path, steps.toArray(new Step[0]));
+    }
+
+    Step[] steps() {
+        return steps;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private static IllegalArgumentException invalid(String path, int position) {
+        return new IllegalArgumentException("Invalid JSON path " + path + " at position " + position);
+    }
+}
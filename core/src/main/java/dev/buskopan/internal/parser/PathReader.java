@@ -0,0 +1,119 @@
+package dev.buskopan.internal.parser;
+
+import dev.buskopan.exception.InvalidSyntaxException;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.lexer.TypeToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Avalia um PathQuery em uma única passada pelo cursor. Só os valores que casam com o caminho
+// são montados; objetos e arrays fora do caminho são pulados contando chaves e colchetes,
+// sem criar tokens, chaves ou valores.
+public class PathReader {
+
+    private static final PathReader INSTANCE = new PathReader();
+
+    private final TreeParser treeParser = TreeParser.getInstance();
+
+    private PathReader() {
+    }
+
+    public static PathReader getInstance() {
+        return INSTANCE;
+    }
+
+    // Valores como no modo árvore: Map, List, String, Long, Double, Boolean ou null
+    public List<Object> select(TokenCursor cursor, PathQuery query) {
+        return select(cursor, query, null, false, ToObject.getInstance());
+    }
+
+    // Objetos encontrados são convertidos na classe alvo, e valores simples no tipo dela
+    public <T> List<T> select(TokenCursor cursor, PathQuery query, Class<T> target, boolean direct, ToObject toObject) {
+        List<T> results = new ArrayList<>();
+        walk(treeParser.first(cursor), cursor, query.steps(), 0, target, direct, toObject, results);
+        return results;
+    }
+
+    private <T> void walk(TypeToken token, TokenCursor cursor, PathQuery.Step[] steps, int depth,
+                          Class<T> target, boolean direct, ToObject toObject, List<T> results) {
+        if (depth == steps.length) {
+            results.add(toObject.readValue(token, cursor, target, direct));
+            return;
+        }
+
+        PathQuery.Step step = steps[depth];
+        if (token.equals(TypeToken.INICIO_OBJETO) && step.kind() != PathQuery.Kind.INDEX) {
+            walkObject(cursor, steps, depth, target, direct, toObject, results);
+        } else if (token.equals(TypeToken.INICIO_ARRAY) && step.kind() != PathQuery.Kind.FIELD) {
+            walkArray(cursor, steps, depth, target, direct, toObject, results);
+        } else {
+            skip(token, cursor);
+        }
+    }
+
+    private <T> void walkObject(TokenCursor cursor, PathQuery.Step[] steps, int depth,
+                                Class<T> target, boolean direct, ToObject toObject, List<T> results) {
+        PathQuery.Step step = steps[depth];
+        boolean member = treeParser.readKeyToken(cursor);
+
+        while (member) {
+            // A chave é comparada direto no buffer, sem virar String
+            boolean matches = step.kind() == PathQuery.Kind.WILDCARD || cursor.textEquals(step.name());
+            treeParser.readColon(cursor);
+            TypeToken value = cursor.nextType();
+
+            if (matches) {
+                walk(value, cursor, steps, depth + 1, target, direct, toObject, results);
+            } else {
+                skip(value, cursor);
+            }
+
+            member = treeParser.hasNextMember(cursor) && treeParser.readKeyToken(cursor);
+        }
+    }
+
+    private <T> void walkArray(TokenCursor cursor, PathQuery.Step[] steps, int depth,
+                               Class<T> target, boolean direct, ToObject toObject, List<T> results) {
+        PathQuery.Step step = steps[depth];
+        int i = 0;
+
+        while (cursor.hasNext()) {
+            TypeToken token = cursor.nextType();
+            if (token.equals(TypeToken.FIM_ARRAY)) {
+                return;
+            }
+
+            if (step.kind() == PathQuery.Kind.WILDCARD) {
+                walk(token, cursor, steps, depth + 1, target, direct, toObject, results);
+            } else if (i == step.index()) {
+                walk(token, cursor, steps, depth + 1, target, direct, toObject, results);
+                // O elemento pedido já foi lido: o resto do array é só pulado
+                if (!cursor.skipContainer()) {
+                    throw new InvalidSyntaxException("expected ] or value");
+                }
+                return;
+            } else {
+                skip(token, cursor);
+            }
+            i++;
+
+            if (!treeParser.hasNextElement(cursor)) {
+                return;
+            }
+        }
+
+        throw new InvalidSyntaxException("expected ] or value");
+    }
+
+    private void skip(TypeToken token, TokenCursor cursor) {
+        if (token.equals(TypeToken.INICIO_OBJETO) || token.equals(TypeToken.INICIO_ARRAY)) {
+            if (!cursor.skipContainer()) {
+                throw new InvalidSyntaxException(token.equals(TypeToken.INICIO_ARRAY) ? "expected ] or value" : "Expected } or comma");
+            }
+        } else if (!token.equals(TypeToken.TEXTO) && !token.equals(TypeToken.NUMERO)
+                && !token.equals(TypeToken.BOOLEANO) && !token.equals(TypeToken.NULO)) {
+            throw new InvalidSyntaxException("invalid token: " + token.name());
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package dev.buskopan.internal.parser;
+
+import dev.buskopan.annotation.JsonFieldAnnotation;
+import dev.buskopan.binder.JsonBinder;
+import dev.buskopan.exception.ConvertToObjectException;
+
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.buskopan.internal.parser.BytecodeWriter.*;
+
+// Gera em tempo de execução, como classe oculta, o mesmo binder que o processador de anotações geraria:
+// switch pelo hash da chave e gravação direta nos campos (putfield), sem passar pelo BindingPlan.
+// A classe oculta é nestmate da classe alvo, por isso enxerga os campos privados dela.
+public final class RuntimeBinders {
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String STRING = "java/lang/String";
+    private static final String BINDER = "dev/buskopan/binder/JsonBinder";
+    private static final String READER = "dev/buskopan/binder/JsonReader";
+    private static final String EXCEPTION = "dev/buskopan/exception/ConvertToObjectException";
+
+    // Locais do read(JsonReader): 0 this, 1 reader, 2 instância, 3 chave, 4-5 campos já vistos (bits)
+    private static final int MAX_FIELDS = 64;
+
+    private record Property(Field field, String key, String[] composite, Class<?> elementType, int bit) {
+    }
+
+    private RuntimeBinders() {
+    }
+
+    /**
+     * Define o binder da classe. Lança {@link ConvertToObjectException} se ela não puder ter um
+     * (campo final, chaves repetidas, tipos sem leitura direta, ou sem acesso privado ao pacote dela).
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonBinder<T> define(Class<T> type) {
+        List<Property> properties = properties(type);
+
+        try {
+            if (!type.getModule().canRead(JsonBinder.class.getModule())) {
+                throw new ConvertToObjectException(type.getName() + " is in a module that does not read " + JsonBinder.class.getModule().getName());
+            }
+            RuntimeBinders.class.getModule().addReads(type.getModule());
+
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            if (!lookup.hasFullPrivilegeAccess()) {
+                throw new ConvertToObjectException("no full privilege access to " + type.getName());
+            }
+
+            byte[] bytes = generate(type, properties);
+            Class<?> binder = lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE).lookupClass();
+            return (JsonBinder<T>) binder.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | IllegalStateException | UncheckedIOException ex) {
+            throw new ConvertToObjectException("cannot generate binder for " + type.getName() + ": " + ex);
+        }
+    }
+
+    private static List<Property> properties(Class<?> type) {
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers()) || type.isHidden()) {
+            throw new ConvertToObjectException(type.getName() + " cannot be instantiated by a binder");
+        }
+        try {
+            type.getConstructor();
+        } catch (NoSuchMethodException ex) {
+            throw new ConvertToObjectException(type.getName() + " has no public no-arg constructor");
+        }
+
+        List<Property> properties = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+        int bits = 0;
+
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            if (Modifier.isFinal(field.getModifiers())) {
+                throw new ConvertToObjectException("final field " + field.getName());
+            }
+
+            JsonFieldAnnotation annotation = field.getAnnotation(JsonFieldAnnotation.class);
+            String key = annotation != null ? annotation.value() : field.getName();
+            String[] composite = annotation != null ? annotation.composite() : new String[0];
+            if (!keys.add(key)) {
+                throw new ConvertToObjectException("more than one field with key " + key);
+            }
+
+            Class<?> fieldType = field.getType();
+            if (composite.length > 0 && fieldType != String.class) {
+                throw new ConvertToObjectException("composite field " + field.getName() + " is not a String");
+            }
+            if (fieldType.isPrimitive() && readMethod(fieldType) == null) {
+                throw new ConvertToObjectException("unsupported type " + fieldType + " of field " + field.getName());
+            }
+            Class<?> elementType = BindingPlan.getListComponentType(field);
+            if (!accessible(type, fieldType) || !accessible(type, elementType)) {
+                throw new ConvertToObjectException("type of field " + field.getName() + " is not accessible");
+            }
+
+            int bit = -1;
+            if (composite.length == 0) {
+                if (bits == MAX_FIELDS) {
+                    throw new ConvertToObjectException("more than " + MAX_FIELDS + " fields");
+                }
+                bit = bits++;
+            }
+            properties.add(new Property(field, key, composite, elementType, bit));
+        }
+        return properties;
+    }
+
+    private static boolean accessible(Class<?> from, Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive() || type.getPackageName().equals(from.getPackageName()) && type.getClassLoader() == from.getClassLoader()) {
+            return true;
+        }
+        for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return type.getModule().isExported(type.getPackageName(), from.getModule());
+    }
+
+    private static String readMethod(Class<?> primitive) {
+        if (primitive == int.class) {
+            return "readInt";
+        }
+        if (primitive == long.class) {
+            return "readLong";
+        }
+        if (primitive == double.class) {
+            return "readDouble";
+        }
+        if (primitive == float.class) {
+            return "readFloat";
+        }
+        if (primitive == boolean.class) {
+            return "readBoolean";
+        }
+        return null;
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.isArray() ? type.descriptorString() : type.getName().replace('.', '/');
+    }
+
+    // Mesmo algoritmo do binder gerado pelo processador, em bytecode
+    private static byte[] generate(Class<?> type, List<Property> properties) {
+        String target = internalName(type);
+        String name = target + "$JsonBinder";
+        BytecodeWriter writer = new BytecodeWriter();
+
+        Code constructor = new Code();
+        constructor.op(ALOAD_0);
+        constructor.op(INVOKESPECIAL, writer.methodRef(OBJECT, "<init>", "()V"));
+        constructor.op(RETURN);
+        writer.method("<init>", "()V", constructor, 1, 1, null);
+
+        Code typeMethod = new Code();
+        typeMethod.ldc(writer.classRef(target));
+        typeMethod.op(ARETURN);
+        writer.method("type", "()Ljava/lang/Class;", typeMethod, 1, 1, null);
+
+        writer.method("read", "(L" + READER + ";)Ljava/lang/Object;", read(writer, target, properties), 8, 6,
+                new int[]{writer.classRef(OBJECT), writer.classRef(READER), writer.classRef(target), writer.classRef(STRING), LONG});
+
+        return writer.toClassFile(name, OBJECT, BINDER);
+    }
+
+    private static Code read(BytecodeWriter writer, String target, List<Property> properties) {
+        Code code = new Code();
+        Label loop = new Label();
+        Label skip = new Label();
+        Label end = new Label();
+
+        code.op(NEW, writer.classRef(target));
+        code.op(DUP);
+        code.op(INVOKESPECIAL, writer.methodRef(target, "<init>", "()V"));
+        code.op(ASTORE_2);
+        code.op(ACONST_NULL);
+        code.op(ASTORE_3);
+        code.op(LCONST_0);
+        code.local(LSTORE, 4);
+
+        // while ((key = reader.nextField()) != null) switch (key.hashCode()) ...
+        code.mark(loop);
+        code.op(ALOAD_1);
+        code.invokeInterface(writer.interfaceMethodRef(READER, "nextField", "()Ljava/lang/String;"), 0);
+        code.op(DUP);
+        code.op(ASTORE_3);
+        code.jump(IFNULL, end);
+        code.op(ALOAD_3);
+        code.op(INVOKEVIRTUAL, writer.methodRef(STRING, "hashCode", "()I"));
+
+        Map<Integer, List<Property>> byHash = new LinkedHashMap<>();
+        properties.stream()
+                .sorted((a, b) -> Integer.compare(a.key().hashCode(), b.key().hashCode()))
+                .forEach(property -> byHash.computeIfAbsent(property.key().hashCode(), hash -> new ArrayList<>()).add(property));
+
+        int[] hashes = byHash.keySet().stream().mapToInt(Integer::intValue).toArray();
+        Label[] cases = new Label[hashes.length];
+        for (int i = 0; i < cases.length; i++) {
+            cases[i] = new Label();
+        }
+        code.lookupSwitch(hashes, cases, skip);
+
+        for (int i = 0; i < hashes.length; i++) {
+            code.mark(cases[i]);
+            for (Property property : byHash.get(hashes[i])) {
+                Label next = new Label();
+                code.op(ALOAD_3);
+                code.ldc(writer.string(property.key()));
+                code.op(INVOKEVIRTUAL, writer.methodRef(STRING, "equals", "(Ljava/lang/Object;)Z"));
+                code.jump(IFEQ, next);
+                store(writer, code, target, property);
+                code.jump(GOTO, loop);
+                code.mark(next);
+            }
+            code.jump(GOTO, skip);
+        }
+
+        code.mark(skip);
+        code.op(ALOAD_1);
+        code.invokeInterface(writer.interfaceMethodRef(READER, "skipValue", "()V"), 0);
+        code.jump(GOTO, loop);
+
+        // Campos ausentes: null, ou erro se forem primitivos
+        code.mark(end);
+        for (Property property : properties) {
+            if (property.bit() < 0) {
+                continue;
+            }
+            Label present = new Label();
+            code.local(LLOAD, 4);
+            code.ldc2(writer.longConstant(1L << property.bit()));
+            code.op(LAND);
+            code.op(LCONST_0);
+            code.op(LCMP);
+            code.jump(IFNE, present);
+
+            Field field = property.field();
+            if (field.getType().isPrimitive()) {
+                code.op(NEW, writer.classRef(EXCEPTION));
+                code.op(DUP);
+                code.ldc(writer.string("missing value for primitive field " + field.getName()));
+                code.op(INVOKESPECIAL, writer.methodRef(EXCEPTION, "<init>", "(Ljava/lang/String;)V"));
+                code.op(ATHROW);
+            } else {
+                code.op(ALOAD_2);
+                code.op(ACONST_NULL);
+                code.op(PUTFIELD, writer.fieldRef(target, field.getName(), field.getType().descriptorString()));
+            }
+            code.mark(present);
+        }
+
+        code.op(ALOAD_2);
+        code.op(ARETURN);
+        return code;
+    }
+
+    // instance.campo = reader.readXxx(...); e marca o bit do campo
+    private static void store(BytecodeWriter writer, Code code, String target, Property property) {
+        Field field = property.field();
+        Class<?> fieldType = field.getType();
+        String descriptor = fieldType.descriptorString();
+
+        // Como no readSlot, um array para um campo que não é List é descartado e o campo fica como está
+        Label skipped = null;
+        if (property.composite().length == 0 && !List.class.isAssignableFrom(fieldType)) {
+            skipped = new Label();
+            code.op(ALOAD_1);
+            code.invokeInterface(writer.interfaceMethodRef(READER, "skipIfArray", "()Z"), 0);
+            code.jump(IFNE, skipped);
+        }
+
+        code.op(ALOAD_2);
+        code.op(ALOAD_1);
+        if (property.composite().length > 0) {
+            String[] keys = property.composite();
+            code.pushInt(keys.length);
+            code.op(ANEWARRAY, writer.classRef(STRING));
+            for (int i = 0; i < keys.length; i++) {
+                code.op(DUP);
+                code.pushInt(i);
+                code.ldc(writer.string(keys[i]));
+                code.op(AASTORE);
+            }
+            code.invokeInterface(writer.interfaceMethodRef(READER, "readComposite", "([Ljava/lang/String;)Ljava/lang/String;"), 1);
+        } else if (fieldType.isPrimitive()) {
+            code.invokeInterface(writer.interfaceMethodRef(READER, readMethod(fieldType), "()" + descriptor), 0);
+        } else if (List.class.isAssignableFrom(fieldType)) {
+            code.ldc(writer.classRef(internalName(property.elementType())));
+            code.invokeInterface(writer.interfaceMethodRef(READER, "readList", "(Ljava/lang/Class;)Ljava/util/List;"), 1);
+            if (fieldType != List.class) {
+                code.op(CHECKCAST, writer.classRef(internalName(fieldType)));
+            }
+        } else {
+            code.ldc(writer.classRef(internalName(fieldType)));
+            code.invokeInterface(writer.interfaceMethodRef(READER, "read", "(Ljava/lang/Class;)Ljava/lang/Object;"), 1);
+            if (fieldType != Object.class) {
+                code.op(CHECKCAST, writer.classRef(internalName(fieldType)));
+            }
+        }
+        code.op(PUTFIELD, writer.fieldRef(target, field.getName(), descriptor));
+        if (skipped != null) {
+            code.mark(skipped);
+        }
+
+        if (property.bit() >= 0) {
+            code.local(LLOAD, 4);
+            code.ldc2(writer.longConstant(1L << property.bit()));
+            code.op(LOR);
+            code.local(LSTORE, 4);
+        }
+    }
+}
@@ -0,0 +1,475 @@
+package dev.buskopan.internal.parser;
+
+import dev.buskopan.binder.JsonBinder;
+import dev.buskopan.exception.ConvertToObjectException;
+import dev.buskopan.exception.InvalidCharacterException;
+import dev.buskopan.exception.InvalidSyntaxException;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.lexer.TypeToken;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ToObject {
+
+    private static final ToObject INSTANCE = new ToObject(true);
+    private static final ToObject REFLECTIVE = new ToObject(false);
+
+    private final TreeParser treeParser = TreeParser.getInstance();
+    // Binders gerados (em compilação ou em tempo de execução) antes do plano por reflexão
+    private final boolean binders;
+
+    private ToObject(boolean binders) {
+        this.binders = binders;
+    }
+
+    public static ToObject getInstance() {
+        return INSTANCE;
+    }
+
+    // Só o plano por reflexão, para comparar com os binders gerados
+    public static ToObject reflective() {
+        return REFLECTIVE;
+    }
+
+    public <T> T convert(Object object, Class<T> target) {
+        if (object instanceof Map<?, ?> map) {
+            return convertMap(map, target);
+        }
+
+        throw new ConvertToObjectException("Couldn't convert an instance of " + object.getClass().getName());
+    }
+
+    public <T> List<T> convertList(List<?> objects, Class<T> target) {
+
+        return objects.stream()
+                .filter(obj -> obj instanceof Map<?, ?> || obj instanceof List<?>)
+                .map(el -> convertMap((Map<?, ?>) el, target))
+                .collect(Collectors.toList());
+    }
+
+    // Binding direto: lê o JSON do cursor e grava os valores na instância alvo sem montar o Map/List
+    public <T> T read(TokenCursor cursor, Class<T> target) {
+        TypeToken first = treeParser.first(cursor);
+
+        if (first.equals(TypeToken.INICIO_OBJETO)) {
+            return readObject(cursor, target);
+        }
+
+        return convert(treeParser.parseRoot(first, cursor), target);
+    }
+
+    public <T> List<T> readList(TokenCursor cursor, Class<T> target) {
+        TypeToken first = treeParser.first(cursor);
+
+        if (!first.equals(TypeToken.INICIO_ARRAY)) {
+            return convertList((List<?>) treeParser.parseRoot(first, cursor), target);
+        }
+
+        List<T> list = new ArrayList<>();
+        new ElementIterator<>(cursor, target, true, true, this, treeParser).forEachRemaining(list::add);
+        return list;
+    }
+
+    // Elementos de um array na raiz, lidos e convertidos um por vez
+    public <T> Iterator<T> iterate(TokenCursor cursor, Class<T> target, boolean direct) {
+        return new ElementIterator<>(cursor, target, direct, false, this, treeParser);
+    }
+
+    // Converte um elemento de array que começa no token atual. Assim como no parseList,
+    // elementos que não são objetos são descartados e o retorno é null.
+    <T> T readElement(TypeToken token, TokenCursor cursor, Class<T> target, boolean direct) {
+        if (direct && token.equals(TypeToken.INICIO_OBJETO)) {
+            return readObject(cursor, target);
+        }
+
+        Object value = treeParser.parseValue(token, cursor);
+        if (value instanceof Map<?, ?> || value instanceof List<?>) {
+            return convert(value, target);
+        }
+        return null;
+    }
+
+    // Converte qualquer valor que começa no token atual: objetos viram a classe alvo e valores simples
+    // são convertidos no tipo dela. Sem classe alvo, devolve o valor como no modo árvore.
+    @SuppressWarnings("unchecked")
+    <T> T readValue(TypeToken token, TokenCursor cursor, Class<T> target, boolean direct) {
+        if (target == null) {
+            return (T) treeParser.parseValue(token, cursor);
+        }
+        if (token.equals(TypeToken.INICIO_OBJETO)) {
+            return direct ? readObject(cursor, target) : convert(treeParser.parseValue(token, cursor), target);
+        }
+        if (token.equals(TypeToken.NUMERO)) {
+            return (T) numberValue(cursor, target);
+        }
+        return (T) parseValue(treeParser.parseValue(token, cursor), target);
+    }
+
+    <T> T readObject(TokenCursor cursor, Class<T> target) {
+        try {
+            if (!treeParser.readKeyToken(cursor)) {
+                throw new ConvertToObjectException("Input map cannot be null or empty");
+            }
+
+            // Binder gerado em tempo de compilação, se houver; senão o plano por reflexão
+            JsonBinder<T> binder = binders ? BinderRegistry.find(target) : null;
+            if (binder != null) {
+                return binder.read(binderReader(cursor));
+            }
+
+            BindingPlan plan = BindingPlan.of(target);
+            if (plan.usesConstructor()) {
+                return target.cast(readArguments(plan, cursor));
+            }
+
+            FieldSlot[] slots = plan.slots();
+            T instance = target.cast(plan.newInstance());
+            // Campos já gravados: bits de um long até 64 campos, para não alocar nada por objeto
+            long assignedBits = 0;
+            boolean[] assigned = slots.length > Long.SIZE ? new boolean[slots.length] : null;
+            boolean member = true;
+
+            while (member) {
+                // A chave é comparada direto no buffer do cursor, sem virar String
+                int[] indexes = plan.slotsFor(cursor);
+                treeParser.readColon(cursor);
+                TypeToken valueToken = cursor.nextType();
+
+                if (indexes.length == 1) {
+                    readSlot(slots[indexes[0]], instance, valueToken, cursor);
+                    if (assigned == null) {
+                        assignedBits |= 1L << indexes[0];
+                    } else {
+                        assigned[indexes[0]] = true;
+                    }
+                } else if (indexes.length == 0) {
+                    treeParser.skipValue(valueToken, cursor);
+                } else {
+                    // Mais de um campo com a mesma chave: todos recebem o mesmo valor, como no Map
+                    Object value = treeParser.parseValue(valueToken, cursor);
+                    for (int index : indexes) {
+                        assignValue(slots[index], instance, value);
+                        if (assigned == null) {
+                            assignedBits |= 1L << index;
+                        } else {
+                            assigned[index] = true;
+                        }
+                    }
+                }
+
+                member = treeParser.hasNextMember(cursor) && treeParser.readKeyToken(cursor);
+            }
+
+            // Campos ausentes recebem o mesmo tratamento que uma chave inexistente no Map
+            for (int i = 0; i < slots.length; i++) {
+                if (assigned == null ? (assignedBits & 1L << i) == 0 : !assigned[i]) {
+                    assignValue(slots[i], instance, null);
+                }
+            }
+
+            return instance;
+        } catch (InvalidSyntaxException | InvalidCharacterException | UncheckedIOException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new ConvertToObjectException("Error during object conversion: " + ex.getMessage());
+        }
+    }
+
+    // Um BinderReader por cursor, reaproveitado por todos os objetos da leitura (e entre leituras, no
+    // cursor de uma sessão). Objetos aninhados recomeçam o mesmo reader: quando voltam, o objeto de fora
+    // já passou da primeira chave.
+    private BinderReader binderReader(TokenCursor cursor) {
+        if (cursor.attachment() instanceof BinderReader reader) {
+            return reader.restart();
+        }
+        BinderReader reader = new BinderReader(cursor, this, treeParser);
+        cursor.attach(reader);
+        return reader;
+    }
+
+    // Records e classes sem construtor vazio: cada valor vai para o argumento do seu slot e o construtor
+    // é chamado uma vez, com os campos ausentes em null
+    private Object readArguments(BindingPlan plan, TokenCursor cursor) {
+        FieldSlot[] slots = plan.slots();
+        Object[] arguments = plan.arguments();
+        boolean member = true;
+
+        while (member) {
+            int[] indexes = plan.slotsFor(cursor);
+            treeParser.readColon(cursor);
+            TypeToken valueToken = cursor.nextType();
+
+            if (indexes.length == 1) {
+                FieldSlot slot = slots[indexes[0]];
+                arguments[indexes[0]] = slot.isComposite()
+                        ? compositeValue(treeParser.parseValue(valueToken, cursor), slot.composite())
+                        : readField(valueToken, cursor, slot.type(), slot.elementType());
+            } else if (indexes.length == 0) {
+                treeParser.skipValue(valueToken, cursor);
+            } else {
+                Object value = treeParser.parseValue(valueToken, cursor);
+                for (int index : indexes) {
+                    arguments[index] = fieldValue(slots[index], value);
+                }
+            }
+
+            member = treeParser.hasNextMember(cursor) && treeParser.readKeyToken(cursor);
+        }
+
+        return plan.newInstance(arguments);
+    }
+
+    private void readSlot(FieldSlot slot, Object instance, TypeToken type, TokenCursor cursor) {
+        Class<?> fieldType = slot.type();
+
+        if (slot.isComposite()) {
+            assignComposite(slot, instance, treeParser.parseValue(type, cursor));
+        } else if (type.equals(TypeToken.NUMERO)) {
+            readNumber(slot, instance, cursor);
+        } else if (type.equals(TypeToken.INICIO_ARRAY) && !List.class.isAssignableFrom(fieldType)) {
+            treeParser.skipValue(type, cursor);
+        } else {
+            slot.set(instance, readField(type, cursor, fieldType, slot.elementType()));
+        }
+    }
+
+    // Valor que um campo do tipo recebe no binding direto. Arrays para campos que não são List são descartados.
+    Object readField(TypeToken type, TokenCursor cursor, Class<?> fieldType, Class<?> elementType) {
+        if (type.equals(TypeToken.INICIO_OBJETO)) {
+            return readObject(cursor, fieldType);
+        }
+        if (type.equals(TypeToken.INICIO_ARRAY)) {
+            if (List.class.isAssignableFrom(fieldType)) {
+                return readElements(cursor, elementType);
+            }
+            treeParser.skipValue(type, cursor);
+            return null;
+        }
+        if (type.equals(TypeToken.NUMERO)) {
+            return numberValue(cursor, fieldType);
+        }
+        return parseValue(treeParser.parseValue(type, cursor), fieldType);
+    }
+
+    // Números vão do buffer do cursor direto para o campo: primitivos sem boxing, nenhum sem String
+    private void readNumber(FieldSlot slot, Object instance, TokenCursor cursor) {
+        Class<?> fieldType = slot.type();
+
+        if (fieldType == int.class) {
+            slot.setInt(instance, cursor.intValue());
+        } else if (fieldType == long.class) {
+            slot.setLong(instance, cursor.longValue());
+        } else if (fieldType == double.class) {
+            slot.setDouble(instance, cursor.doubleValue());
+        } else if (fieldType == float.class) {
+            slot.setFloat(instance, cursor.floatValue());
+        } else {
+            slot.set(instance, numberValue(cursor, fieldType));
+        }
+    }
+
+    private Object numberValue(TokenCursor cursor, Class<?> type) {
+        if (type == Integer.class) {
+            return cursor.intValue();
+        }
+        if (type == Long.class) {
+            return cursor.longValue();
+        }
+        if (type == Double.class) {
+            return cursor.doubleValue();
+        }
+        if (type == Float.class) {
+            return cursor.floatValue();
+        }
+        return parseValue(treeParser.parseValue(TypeToken.NUMERO, cursor), type);
+    }
+
+    private List<Object> readElements(TokenCursor cursor, Class<?> elementType) {
+        List<Object> list = new ArrayList<>();
+
+        while (cursor.hasNext()) {
+            TypeToken token = cursor.nextType();
+            if (token.equals(TypeToken.FIM_ARRAY)) {
+                return list;
+            }
+
+            if (token.equals(TypeToken.INICIO_OBJETO)) {
+                list.add(readObject(cursor, elementType));
+            } else if (token.equals(TypeToken.NUMERO)) {
+                list.add(numberValue(cursor, elementType));
+            } else {
+                list.add(parseValue(treeParser.parseValue(token, cursor), elementType));
+            }
+
+            if (!treeParser.hasNextElement(cursor)) {
+                return list;
+            }
+        }
+
+        throw new InvalidSyntaxException("expected ] or value");
+    }
+
+    private <T> T  convertMap(Map<?, ?> map, Class<T> target) {
+        try {
+            if (map == null || map.isEmpty()) {
+                throw new ConvertToObjectException("Input map cannot be null or empty");
+            }
+
+            BindingPlan plan = BindingPlan.of(target);
+            if (plan.usesConstructor()) {
+                FieldSlot[] slots = plan.slots();
+                Object[] arguments = plan.arguments();
+                for (int i = 0; i < slots.length; i++) {
+                    arguments[i] = fieldValue(slots[i], map.get(slots[i].key()));
+                }
+                return target.cast(plan.newInstance(arguments));
+            }
+
+            T instance = target.cast(plan.newInstance());
+
+            for (FieldSlot slot : plan.slots()) {
+                assignValue(slot, instance, map.get(slot.key()));
+            }
+
+            return instance;
+        } catch (Exception ex) {
+            throw new ConvertToObjectException("Error during object conversion: " + ex.getMessage());
+        }
+    }
+
+    private void assignValue(FieldSlot slot, Object instance, Object value) {
+        Class<?> fieldType = slot.type();
+
+        // Se for um campo composto
+        if (slot.isComposite()) {
+            assignComposite(slot, instance, value);
+        }
+        else if (value instanceof Map<?, ?> nestedMap) {
+            Object nestedObject = convert(nestedMap, fieldType);
+            slot.set(instance, nestedObject);
+        }
+        else if (value instanceof List<?> nestedList) {
+
+            if (List.class.isAssignableFrom(fieldType)) {
+                slot.set(instance, convertElements(nestedList, slot.elementType()));
+            }
+        }
+        else {
+            slot.set(instance, parseValue(value,fieldType));
+        }
+    }
+
+    // O mesmo que o assignValue, mas devolve o valor em vez de gravá-lo (argumentos de construtor)
+    private Object fieldValue(FieldSlot slot, Object value) {
+        if (slot.isComposite()) {
+            return value instanceof Map<?, ?> || value instanceof List<?> ? compositeValue(value, slot.composite()) : null;
+        }
+        if (value instanceof Map<?, ?> nestedMap) {
+            return convert(nestedMap, slot.type());
+        }
+        if (value instanceof List<?> nestedList) {
+            return List.class.isAssignableFrom(slot.type()) ? convertElements(nestedList, slot.elementType()) : null;
+        }
+        return parseValue(value, slot.type());
+    }
+
+    private List<Object> convertElements(List<?> nestedList, Class<?> clazz) {
+        // Converte para lista
+        return nestedList.stream()
+                .map(el -> {
+                    if (el instanceof Map<?, ?> nestedMap) {
+                        // Se for um objeto, converta recursivamente
+                        return convert(nestedMap, clazz);
+                    } else {
+                        // Se for um valor primitivo, parseie diretamente
+                        return parseValue(el, clazz);
+                    }
+                })
+                .collect(Collectors.toList());
+    }
+
+    private void assignComposite(FieldSlot slot, Object instance, Object value) {
+        if (value instanceof Map<?, ?> || value instanceof List<?>) {
+            slot.set(instance, compositeValue(value, slot.composite()));
+        }
+    }
+
+    // Junta por espaço os valores das chaves do composite; null se nenhuma estiver presente
+    String compositeValue(Object value, String[] keys) {
+        if (value instanceof Map<?,?> nestedMap) {
+            StringBuilder sb = new StringBuilder();
+
+            for (String compositeKey : keys) {
+                Object part = nestedMap.get(compositeKey);
+                if (part != null) {
+                    sb.append(part).append(" ");
+                }
+            }
+
+            return sb.toString().trim().isEmpty() ? null : sb.toString().trim();
+        } else if (value instanceof List<?>) {
+            throw new ConvertToObjectException("cannot use JsonField annotation on fields that are arrays!");
+        }
+        return null;
+    }
+
+    private Object parseValue(Object value, Class<?> type) {
+        if (value == null || type == null) {
+            return null;
+        }
+
+        if (type.isAssignableFrom(value.getClass())) {
+            return value;
+        }
+
+        if (type == String.class) {
+            return String.valueOf(value);
+        }
+
+        // Números que já vieram da árvore como Long/Double não precisam virar String de novo
+        if (value instanceof Long number) {
+            if (type == Integer.class || type == int.class) {
+                return Math.toIntExact(number);
+            }
+            if (type == long.class) {
+                return number;
+            }
+            if (type == Double.class || type == double.class) {
+                return number.doubleValue();
+            }
+            if (type == Float.class || type == float.class) {
+                return number.floatValue();
+            }
+        } else if (value instanceof Double number && type == double.class) {
+            // Double para float fica abaixo, pelo texto: floatValue() arredondaria duas vezes
+            return number;
+        }
+
+        if (type == Integer.class || type == int.class) {
+            return Integer.valueOf(value.toString());
+        }
+
+        if (type == Float.class || type == float.class) {
+            return Float.valueOf(value.toString());
+        }
+
+        if (type == Double.class || type == double.class) {
+            return Double.valueOf(String.valueOf(value));
+        }
+
+        if (type == Long.class || type == long.class) {
+            return Long.valueOf(String.valueOf(value));
+        }
+
+        if (type == Boolean.class || type == boolean.class) {
+            return Boolean.valueOf(value.toString());
+        }
+
+        throw new ConvertToObjectException("cannot parse value " + value + " of type " + type);
+    }
+}
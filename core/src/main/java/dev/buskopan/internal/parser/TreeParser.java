@@ -0,0 +1,221 @@
+package dev.buskopan.internal.parser;
+
+import dev.buskopan.exception.InvalidSyntaxException;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.lexer.TypeToken;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Monta a árvore de Map/List a partir do cursor. Os métodos de leitura de membros e elementos
+// também são usados pelo binding direto do ToObject, para que os dois caminhos validem a sintaxe igual.
+public class TreeParser {
+
+    private static final TreeParser INSTANCE = new TreeParser();
+
+    private TreeParser() {
+    }
+
+    public static TreeParser getInstance() {
+        return INSTANCE;
+    }
+
+    public Object parse(TokenCursor cursor) {
+        return parseRoot(first(cursor), cursor);
+    }
+
+    public TypeToken first(TokenCursor cursor) {
+        if (!cursor.hasNext()) {
+            throw new InvalidSyntaxException("empty JSON");
+        }
+
+        return cursor.nextType();
+    }
+
+    public Object parseRoot(TypeToken first, TokenCursor cursor) {
+        if (first.equals(TypeToken.INICIO_OBJETO)) {
+            return parseObject(cursor);
+        }
+
+        if (first.equals(TypeToken.INICIO_ARRAY)) {
+            return parseArray(cursor);
+        }
+
+        throw new InvalidSyntaxException("JSON should start with { or [");
+    }
+
+    // Converte o valor que começa no token atual do cursor
+    public Object parseValue(TypeToken type, TokenCursor cursor) {
+        return switch (type) {
+            case BOOLEANO -> Boolean.valueOf(cursor.text());
+            case TEXTO -> cursor.text();
+            case NUMERO -> {
+                if (cursor.isIntegral()) {
+                    yield Long.valueOf(cursor.longValue());
+                }
+                yield Double.valueOf(cursor.doubleValue());
+            }
+            case INICIO_OBJETO -> parseObject(cursor);
+            case INICIO_ARRAY -> parseArray(cursor);
+            case NULO -> null;
+            default -> throw new InvalidSyntaxException("invalid token: " + type.name());
+        };
+    }
+
+    // Valida e descarta um valor sem montar Map/List para ele
+    public void skipValue(TypeToken type, TokenCursor cursor) {
+        switch (type) {
+            case BOOLEANO, TEXTO, NUMERO, NULO -> {
+            }
+            case INICIO_OBJETO -> {
+                if (!cursor.hasNext()) {
+                    throw new InvalidSyntaxException("Expected } or string");
+                }
+                while (cursor.hasNext() && readKeyToken(cursor)) {
+                    readColon(cursor);
+                    skipValue(cursor.nextType(), cursor);
+                    if (!hasNextMember(cursor)) {
+                        return;
+                    }
+                }
+            }
+            case INICIO_ARRAY -> {
+                while (cursor.hasNext()) {
+                    TypeToken token = cursor.nextType();
+                    if (token.equals(TypeToken.FIM_ARRAY)) {
+                        return;
+                    }
+                    skipValue(token, cursor);
+                    if (!hasNextElement(cursor)) {
+                        return;
+                    }
+                }
+                throw new InvalidSyntaxException("expected ] or value");
+            }
+            default -> throw new InvalidSyntaxException("invalid token: " + type.name());
+        }
+    }
+
+    // Lê a chave de um membro e o ':' seguinte; devolve null quando o objeto termina
+    public String readKey(TokenCursor cursor) {
+        if (!readKeyToken(cursor)) {
+            return null;
+        }
+
+        String key = cursor.key();
+        readColon(cursor);
+        return key;
+    }
+
+    // Avança até o token da chave sem criar a String: o chamador pode compará-la direto no cursor
+    // antes de chamar readColon. Devolve false quando o objeto termina.
+    public boolean readKeyToken(TokenCursor cursor) {
+        if (!cursor.hasNext()) {
+            throw new InvalidSyntaxException("Expected } or string");
+        }
+
+        TypeToken token = cursor.nextType();
+
+        if (token.equals(TypeToken.FIM_OBJETO)) {
+            return false;
+        }
+
+        if (!token.equals(TypeToken.TEXTO)) {
+            throw new InvalidSyntaxException("Expected: string");
+        }
+
+        return true;
+    }
+
+    public void readColon(TokenCursor cursor) {
+        if (!cursor.hasNext() || !cursor.nextType().equals(TypeToken.DOIS_PONTO)) {
+            throw new InvalidSyntaxException("expected: ';' after json key");
+        }
+    }
+
+    // Consome o separador depois de um membro: true para ',' e false para '}'
+    public boolean hasNextMember(TokenCursor cursor) {
+        if (!cursor.hasNext()) {
+            throw new InvalidSyntaxException("Expected } or comma");
+        }
+
+        TypeToken nextToken = cursor.nextType();
+        if (nextToken.equals(TypeToken.FIM_OBJETO)) {
+            return false;
+        }
+
+        if (!nextToken.equals(TypeToken.VIRGULA)) {
+            throw new InvalidSyntaxException("Expected ',' or '}'");
+        }
+
+        return true;
+    }
+
+    // Consome o separador depois de um elemento: true para ',' e false para ']'
+    public boolean hasNextElement(TokenCursor cursor) {
+        if (!cursor.hasNext()) {
+            throw new InvalidSyntaxException("expected ',' or ']' at structure " + cursor.consumed());
+        }
+
+        TypeToken nextToken = cursor.nextType();
+
+        if (nextToken.equals(TypeToken.FIM_ARRAY)) {
+            return false;
+        }
+
+        if (!nextToken.equals(TypeToken.VIRGULA)) {
+            throw new InvalidSyntaxException("expected ',' or ']' at structure " + cursor.consumed());
+        }
+
+        return true;
+    }
+
+    private List<Object> parseArray(TokenCursor cursor) {
+        List<Object> list = new ArrayList<>();
+
+        while (cursor.hasNext()) {
+            TypeToken token = cursor.nextType();
+            if (token.equals(TypeToken.FIM_ARRAY)) {
+                return list;
+            }
+
+            Object value = parseValue(token, cursor);
+            list.add(value);
+
+            if (!hasNextElement(cursor)) {
+                return list;
+            }
+        }
+
+        throw new InvalidSyntaxException("expected ] or value");
+    }
+
+    private Map<String, Object> parseObject(TokenCursor cursor) {
+        Map<String, Object> map = new HashMap<>();
+
+        if (!cursor.hasNext()) {
+            throw new InvalidSyntaxException("Expected } or string");
+        }
+
+        while(cursor.hasNext()) {
+            String key = readKey(cursor);
+
+            if (key == null) {
+                return map;
+            }
+
+            TypeToken valueToken = cursor.nextType();
+            Object value = parseValue(valueToken, cursor);
+
+            map.put(key,value);
+
+            if (!hasNextMember(cursor)) {
+                return map;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,373 @@
+package dev.buskopan.internal.serializer;
+
+import dev.buskopan.exception.ConvertToObjectException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Escreve JSON em UTF-8 direto em um buffer de bytes. Com um OutputStream, o buffer tem tamanho fixo e
+// é despejado quando enche; sem destino, ele cresce e o resultado fica em memória. Caracteres multibyte
+// são sempre escritos inteiros, então um despejo nunca corta um caractere.
+// Com um Writer, o buffer é de chars (chars): nada é codificado em UTF-8, só escapado.
+public final class JsonGenerator {
+
+    static final int BUFFER_SIZE = 8192;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    // Para cada char ASCII: 0 se é copiado como está, o char do escape curto, ou 'u' para \\u00XX
+    private static final byte[] ESCAPES = new byte[128];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = 'u';
+        }
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\r'] = 'r';
+        ESCAPES['\t'] = 't';
+    }
+
+    private final OutputStream out;
+    private final Writer writer;
+    private byte[] buf;
+    private char[] chars;
+    // Posição em buf, ou em chars com um Writer
+    private int pos;
+
+    // Em memória, continuando a partir de pos em um buffer já existente
+    public JsonGenerator(byte[] buf, int pos) {
+        this.out = null;
+        this.writer = null;
+        this.buf = buf;
+        this.pos = pos;
+    }
+
+    public JsonGenerator(OutputStream out) {
+        this.out = out;
+        this.writer = null;
+        this.buf = new byte[BUFFER_SIZE];
+    }
+
+    public JsonGenerator(Writer writer) {
+        this.out = null;
+        this.writer = writer;
+        this.chars = new char[BUFFER_SIZE];
+    }
+
+    public byte[] buffer() {
+        return buf;
+    }
+
+    public int position() {
+        return pos;
+    }
+
+    // Um char ASCII, como a pontuação
+    public void writeByte(byte b) {
+        if (chars != null) {
+            ensureChars(1);
+            chars[pos++] = (char) b;
+            return;
+        }
+        ensure(1);
+        buf[pos++] = b;
+    }
+
+    // Texto já pronto, como o prefixo "chave": de um campo, em UTF-8 (bytes) e em chars (text)
+    public void writeRaw(byte[] bytes, char[] text) {
+        if (chars != null) {
+            ensureChars(text.length);
+            System.arraycopy(text, 0, chars, pos, text.length);
+            pos += text.length;
+            return;
+        }
+        writeRaw(bytes);
+    }
+
+    public void writeNull() {
+        writeAscii(NULL);
+    }
+
+    public void writeBoolean(boolean value) {
+        writeAscii(value ? TRUE : FALSE);
+    }
+
+    public void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(MIN_LONG);
+            return;
+        }
+        if (chars != null) {
+            writeLongChars(value);
+            return;
+        }
+
+        ensure(20);
+        if (value < 0) {
+            buf[pos++] = '-';
+            value = -value;
+        }
+
+        // Escreve os dígitos de trás para frente, já na posição final
+        int end = pos + digits(value);
+        int k = end;
+        do {
+            buf[--k] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        pos = end;
+    }
+
+    // Mesmo texto de Double.toString; inteiros pequenos são escritos sem passar por String
+    public void writeDouble(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new ConvertToObjectException("cannot write " + value + " as JSON");
+        }
+        if (value == (long) value && Math.abs(value) < 1e7 && !(value == 0 && 1 / value < 0)) {
+            writeLong((long) value);
+            writeAscii(".0");
+            return;
+        }
+        writeAscii(Double.toString(value));
+    }
+
+    public void writeFloat(float value) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            throw new ConvertToObjectException("cannot write " + value + " as JSON");
+        }
+        if (value == (long) value && Math.abs(value) < 1e7f && !(value == 0 && 1 / value < 0)) {
+            writeLong((long) value);
+            writeAscii(".0");
+            return;
+        }
+        writeAscii(Float.toString(value));
+    }
+
+    // Texto de um número já formatado, como o toString de BigDecimal
+    public void writeNumber(String text) {
+        writeAscii(text);
+    }
+
+    // String entre aspas: trechos sem escape são copiados direto, só os chars especiais passam pela tabela
+    public void writeString(CharSequence value) {
+        if (chars != null) {
+            writeStringChars(value);
+            return;
+        }
+        int length = value.length();
+        ensure(1);
+        buf[pos++] = '"';
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c < 0x80) {
+                byte escape = ESCAPES[c];
+                if (escape == 0) {
+                    if (pos == buf.length) {
+                        ensure(1);
+                    }
+                    buf[pos++] = (byte) c;
+                } else if (escape == 'u') {
+                    ensure(6);
+                    buf[pos++] = '\\';
+                    buf[pos++] = 'u';
+                    buf[pos++] = '0';
+                    buf[pos++] = '0';
+                    buf[pos++] = HEX[c >> 4];
+                    buf[pos++] = HEX[c & 0xF];
+                } else {
+                    ensure(2);
+                    buf[pos++] = '\\';
+                    buf[pos++] = escape;
+                }
+            } else if (c < 0x800) {
+                ensure(2);
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int code = Character.toCodePoint(c, value.charAt(++i));
+                ensure(4);
+                buf[pos++] = (byte) (0xF0 | (code >> 18));
+                buf[pos++] = (byte) (0x80 | ((code >> 12) & 0x3F));
+                buf[pos++] = (byte) (0x80 | ((code >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (code & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Surrogate sozinho não tem UTF-8 válido: vira '?', como em String.getBytes
+                ensure(1);
+                buf[pos++] = '?';
+            } else {
+                ensure(3);
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        ensure(1);
+        buf[pos++] = '"';
+    }
+
+    // writeLong em chars, com o mesmo algoritmo
+    private void writeLongChars(long value) {
+        ensureChars(20);
+        if (value < 0) {
+            chars[pos++] = '-';
+            value = -value;
+        }
+
+        int end = pos + digits(value);
+        int k = end;
+        do {
+            chars[--k] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        pos = end;
+    }
+
+    // writeString em chars: só os escapes, sem codificar; um surrogate sozinho vira '?' como em UTF-8
+    private void writeStringChars(CharSequence value) {
+        int length = value.length();
+        ensureChars(1);
+        chars[pos++] = '"';
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            byte escape = c < 0x80 ? ESCAPES[c] : 0;
+
+            if (escape == 0) {
+                if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        ensureChars(2);
+                        chars[pos++] = c;
+                        c = value.charAt(++i);
+                    } else {
+                        c = '?';
+                    }
+                }
+                if (pos == chars.length) {
+                    ensureChars(1);
+                }
+                chars[pos++] = c;
+            } else if (escape == 'u') {
+                ensureChars(6);
+                chars[pos++] = '\\';
+                chars[pos++] = 'u';
+                chars[pos++] = '0';
+                chars[pos++] = '0';
+                chars[pos++] = (char) HEX[c >> 4];
+                chars[pos++] = (char) HEX[c & 0xF];
+            } else {
+                ensureChars(2);
+                chars[pos++] = '\\';
+                chars[pos++] = (char) escape;
+            }
+        }
+
+        ensureChars(1);
+        chars[pos++] = '"';
+    }
+
+    // Despeja o que estiver no buffer para o destino; em memória não faz nada
+    public void flush() {
+        drain();
+        try {
+            if (out != null) {
+                out.flush();
+            } else if (writer != null) {
+                writer.flush();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void drain() {
+        try {
+            if (out != null) {
+                out.write(buf, 0, pos);
+            } else if (writer != null) {
+                writer.write(chars, 0, pos);
+            } else {
+                return;
+            }
+            pos = 0;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeRaw(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buf, pos, bytes.length);
+        pos += bytes.length;
+    }
+
+    private void writeAscii(byte[] value) {
+        if (chars == null) {
+            writeRaw(value);
+            return;
+        }
+        ensureChars(value.length);
+        for (byte b : value) {
+            chars[pos++] = (char) b;
+        }
+    }
+
+    private void writeAscii(String value) {
+        int length = value.length();
+        if (chars != null) {
+            ensureChars(length);
+            value.getChars(0, length, chars, pos);
+            pos += length;
+            return;
+        }
+        ensure(length);
+        for (int i = 0; i < length; i++) {
+            buf[pos++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void ensure(int n) {
+        if (buf.length - pos >= n) {
+            return;
+        }
+        if (out != null) {
+            drain();
+            if (buf.length - pos >= n) {
+                return;
+            }
+        }
+        buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + n));
+    }
+
+    private void ensureChars(int n) {
+        if (chars.length - pos >= n) {
+            return;
+        }
+        drain();
+        if (chars.length - pos < n) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, n));
+        }
+    }
+
+    private static int digits(long value) {
+        int digits = 1;
+        for (long limit = 10; digits < 19 && value >= limit; limit *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,179 @@
+package dev.buskopan.internal.serializer;
+
+import dev.buskopan.exception.ConvertToObjectException;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+
+// Escreve um valor Java como JSON. Tipos simples, coleções, arrays e mapas são tratados aqui;
+// qualquer outro objeto é escrito campo a campo pelo WriterPlan da classe.
+public final class ObjectWriter {
+
+    private static final ObjectWriter INSTANCE = new ObjectWriter();
+
+    // Protege contra referências circulares, que de outra forma terminariam em StackOverflowError
+    private static final int MAX_DEPTH = 1000;
+
+    private ObjectWriter() {}
+
+    public static ObjectWriter getInstance() {
+        return INSTANCE;
+    }
+
+    public void write(Object value, JsonGenerator generator) {
+        write(value, generator, 0);
+    }
+
+    private void write(Object value, JsonGenerator generator, int depth) {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String text) {
+            generator.writeString(text);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            generator.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double number) {
+            generator.writeDouble(number);
+        } else if (value instanceof Float number) {
+            generator.writeFloat(number);
+        } else if (value instanceof Boolean bool) {
+            generator.writeBoolean(bool);
+        } else if (value instanceof BigDecimal || value instanceof BigInteger) {
+            generator.writeNumber(value.toString());
+        } else if (value instanceof CharSequence || value instanceof Character) {
+            generator.writeString(value.toString());
+        } else if (value instanceof Enum<?> constant) {
+            generator.writeString(constant.name());
+        } else {
+            if (depth == MAX_DEPTH) {
+                throw new ConvertToObjectException("object graph is too deep to serialize (circular reference?)");
+            }
+            if (value instanceof Collection<?> collection) {
+                writeCollection(collection, generator, depth + 1);
+            } else if (value instanceof Map<?, ?> map) {
+                writeMap(map, generator, depth + 1);
+            } else if (value.getClass().isArray()) {
+                writeArray(value, generator, depth + 1);
+            } else {
+                writeObject(value, generator, depth + 1);
+            }
+        }
+    }
+
+    private void writeObject(Object value, JsonGenerator generator, int depth) {
+        generator.writeByte((byte) '{');
+
+        for (PropertyWriter property : WriterPlan.of(value.getClass()).properties()) {
+            generator.writeRaw(property.prefix(), property.prefixText());
+
+            switch (property.kind()) {
+                case INT -> generator.writeLong(property.getInt(value));
+                case LONG -> generator.writeLong(property.getLong(value));
+                case DOUBLE -> generator.writeDouble(property.getDouble(value));
+                case FLOAT -> generator.writeFloat(property.getFloat(value));
+                case BOOLEAN -> generator.writeBoolean(property.getBoolean(value));
+                case OBJECT -> {
+                    Object fieldValue = property.get(value);
+                    if (property.isComposite() && fieldValue != null) {
+                        writeComposite(property, fieldValue, generator);
+                    } else {
+                        write(fieldValue, generator, depth);
+                    }
+                }
+            }
+        }
+
+        generator.writeByte((byte) '}');
+    }
+
+    // Inverso do binding: o texto do campo é dividido por espaços entre as chaves do composite
+    private void writeComposite(PropertyWriter property, Object value, JsonGenerator generator) {
+        if (value instanceof Collection<?> || value.getClass().isArray()) {
+            throw new ConvertToObjectException("cannot use JsonField annotation on fields that are arrays!");
+        }
+
+        String[] keys = property.composite();
+        String[] parts = value.toString().trim().split(" +", keys.length);
+
+        generator.writeByte((byte) '{');
+        for (int i = 0; i < keys.length && i < parts.length; i++) {
+            if (i > 0) {
+                generator.writeByte((byte) ',');
+            }
+            generator.writeString(keys[i]);
+            generator.writeByte((byte) ':');
+            generator.writeString(parts[i]);
+        }
+        generator.writeByte((byte) '}');
+    }
+
+    private void writeCollection(Collection<?> collection, JsonGenerator generator, int depth) {
+        generator.writeByte((byte) '[');
+        boolean first = true;
+        for (Object element : collection) {
+            if (!first) {
+                generator.writeByte((byte) ',');
+            }
+            first = false;
+            write(element, generator, depth);
+        }
+        generator.writeByte((byte) ']');
+    }
+
+    private void writeArray(Object array, JsonGenerator generator, int depth) {
+        generator.writeByte((byte) '[');
+        int length = Array.getLength(array);
+
+        if (array instanceof int[] ints) {
+            for (int i = 0; i < length; i++) {
+                separator(i, generator);
+                generator.writeLong(ints[i]);
+            }
+        } else if (array instanceof long[] longs) {
+            for (int i = 0; i < length; i++) {
+                separator(i, generator);
+                generator.writeLong(longs[i]);
+            }
+        } else if (array instanceof double[] doubles) {
+            for (int i = 0; i < length; i++) {
+                separator(i, generator);
+                generator.writeDouble(doubles[i]);
+            }
+        } else if (array instanceof Object[] objects) {
+            for (int i = 0; i < length; i++) {
+                separator(i, generator);
+                write(objects[i], generator, depth);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                separator(i, generator);
+                write(Array.get(array, i), generator, depth);
+            }
+        }
+
+        generator.writeByte((byte) ']');
+    }
+
+    private void writeMap(Map<?, ?> map, JsonGenerator generator, int depth) {
+        generator.writeByte((byte) '{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                generator.writeByte((byte) ',');
+            }
+            first = false;
+            generator.writeString(String.valueOf(entry.getKey()));
+            generator.writeByte((byte) ':');
+            write(entry.getValue(), generator, depth);
+        }
+        generator.writeByte((byte) '}');
+    }
+
+    private static void separator(int i, JsonGenerator generator) {
+        if (i > 0) {
+            generator.writeByte((byte) ',');
+        }
+    }
+}
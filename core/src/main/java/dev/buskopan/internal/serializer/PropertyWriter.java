@@ -0,0 +1,107 @@
+package dev.buskopan.internal.serializer;
+
+import dev.buskopan.exception.ConvertToObjectException;
+
+import java.lang.invoke.MethodHandle;
+import java.nio.charset.StandardCharsets;
+
+// Tudo o que o serializador precisa saber sobre um campo, calculado uma única vez por classe.
+final class PropertyWriter {
+
+    enum Kind { INT, LONG, DOUBLE, FLOAT, BOOLEAN, OBJECT }
+
+    // "chave": já codificado em UTF-8 e escapado
+    private final byte[] prefix;
+    // O mesmo prefixo em chars, para um Writer
+    private final char[] prefixText;
+    private final String[] composite;
+    private final Kind kind;
+    // Getter com o tipo exato: (Object)int, (Object)long... ou (Object)Object
+    private final MethodHandle getter;
+
+    PropertyWriter(byte[] prefix, String[] composite, Kind kind, MethodHandle getter) {
+        this.prefix = prefix;
+        this.prefixText = new String(prefix, StandardCharsets.UTF_8).toCharArray();
+        this.composite = composite;
+        this.kind = kind;
+        this.getter = getter;
+    }
+
+    byte[] prefix() {
+        return prefix;
+    }
+
+    char[] prefixText() {
+        return prefixText;
+    }
+
+    String[] composite() {
+        return composite;
+    }
+
+    boolean isComposite() {
+        return composite.length > 0;
+    }
+
+    Kind kind() {
+        return kind;
+    }
+
+    int getInt(Object instance) {
+        try {
+            return (int) getter.invokeExact(instance);
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    long getLong(Object instance) {
+        try {
+            return (long) getter.invokeExact(instance);
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    double getDouble(Object instance) {
+        try {
+            return (double) getter.invokeExact(instance);
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    float getFloat(Object instance) {
+        try {
+            return (float) getter.invokeExact(instance);
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    boolean getBoolean(Object instance) {
+        try {
+            return (boolean) getter.invokeExact(instance);
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    Object get(Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable ex) {
+        if (ex instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (ex instanceof Error error) {
+            throw error;
+        }
+        return new ConvertToObjectException(ex.getMessage());
+    }
+}
@@ -0,0 +1,99 @@
+package dev.buskopan.internal.serializer;
+
+import dev.buskopan.annotation.JsonFieldAnnotation;
+import dev.buskopan.exception.ConvertToObjectException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Plano de escrita de uma classe: getters e chaves já codificadas, resolvidos uma vez e reaproveitados.
+// Usa os mesmos campos e nomes do binding: campos não estáticos, com o nome do JsonFieldAnnotation se houver.
+final class WriterPlan {
+
+    private static final ClassValue<WriterPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected WriterPlan computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private final PropertyWriter[] properties;
+
+    private WriterPlan(PropertyWriter[] properties) {
+        this.properties = properties;
+    }
+
+    static WriterPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    PropertyWriter[] properties() {
+        return properties;
+    }
+
+    private static WriterPlan create(Class<?> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            List<PropertyWriter> properties = new ArrayList<>();
+
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+
+                JsonFieldAnnotation annotation = field.getAnnotation(JsonFieldAnnotation.class);
+                String key = annotation != null ? annotation.value() : field.getName();
+                String[] composite = annotation != null ? annotation.composite() : new String[0];
+
+                PropertyWriter.Kind kind = kindOf(field.getType());
+                Class<?> returnType = kind == PropertyWriter.Kind.OBJECT ? Object.class : field.getType();
+                MethodHandle getter = lookup.unreflectGetter(field)
+                        .asType(MethodType.methodType(returnType, Object.class));
+
+                properties.add(new PropertyWriter(prefix(key, properties.isEmpty()), composite, kind, getter));
+            }
+
+            return new WriterPlan(properties.toArray(new PropertyWriter[0]));
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            throw new ConvertToObjectException("Error during object serialization: " + ex.getMessage());
+        }
+    }
+
+    // short, byte e char continuam como OBJECT: são raros e o boxing deles vem de cache
+    private static PropertyWriter.Kind kindOf(Class<?> type) {
+        if (type == int.class) {
+            return PropertyWriter.Kind.INT;
+        }
+        if (type == long.class) {
+            return PropertyWriter.Kind.LONG;
+        }
+        if (type == double.class) {
+            return PropertyWriter.Kind.DOUBLE;
+        }
+        if (type == float.class) {
+            return PropertyWriter.Kind.FLOAT;
+        }
+        if (type == boolean.class) {
+            return PropertyWriter.Kind.BOOLEAN;
+        }
+        return PropertyWriter.Kind.OBJECT;
+    }
+
+    // ,"chave": (sem a vírgula no primeiro campo), escrito uma vez e copiado em cada objeto
+    private static byte[] prefix(String key, boolean first) {
+        JsonGenerator generator = new JsonGenerator(new byte[key.length() + 8], 0);
+        if (!first) {
+            generator.writeByte((byte) ',');
+        }
+        generator.writeString(key);
+        generator.writeByte((byte) ':');
+        return Arrays.copyOf(generator.buffer(), generator.position());
+    }
+}
@@ -0,0 +1,268 @@
+package dev.buskopan.internal.tape;
+
+import dev.buskopan.internal.lexer.TokenCursor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+// Árvore de um documento JSON inteira em poucos arrays primitivos, no lugar de HashMap, ArrayList
+// e números em caixa. Cada valor é um nó, em pré-ordem:
+//   kinds[n]  o tipo do nó
+//   values[n] o long, os bits do double, (início << 32 | tamanho) do texto de uma string em text,
+//             ou (início << 32 | quantidade) dos filhos de um container em slots
+// Cada elemento de um array ocupa um int em slots (o nó); cada membro de um objeto, dois (id da chave e nó).
+// Objetos com mais de LINEAR_LOOKUP membros têm logo depois os números dos membros ordenados pelo id
+// da chave, para busca binária. Cada chave fica uma vez só, no dicionário do documento.
+// O documento é lido por Map/List somente leitura, que criam Strings e números só quando acessados.
+// Os arrays podem ser gravados como estão em um formato binário (write/read) e lidos de volta sem lexer.
+public final class Tape {
+
+    // "TAPE" e a versão do formato binário
+    private static final int MAGIC = 0x54415045;
+    private static final int VERSION = 1;
+
+    static final byte OBJECT = 1;
+    static final byte ARRAY = 2;
+    static final byte STRING = 3;
+    static final byte LONG = 4;
+    static final byte DOUBLE = 5;
+    static final byte TRUE = 6;
+    static final byte FALSE = 7;
+    static final byte NULL = 8;
+
+    static final int LINEAR_LOOKUP = 8;
+
+    private final byte[] kinds;
+    private final long[] values;
+    private final int[] slots;
+    private final char[] text;
+    private final String[] names;
+    private final Map<String, Integer> keyIds;
+
+    Tape(byte[] kinds, long[] values, int[] slots, char[] text, String[] names, Map<String, Integer> keyIds) {
+        this.kinds = kinds;
+        this.values = values;
+        this.slots = slots;
+        this.text = text;
+        this.names = names;
+        this.keyIds = keyIds;
+    }
+
+    // Lê o documento que começa no cursor; a raiz deve ser um objeto ou um array.
+    // sizeHint é o tamanho da entrada, se conhecido (senão 0), para os arrays já nascerem perto do tamanho final.
+    public static Tape parse(TokenCursor cursor, int sizeHint) {
+        return new TapeBuilder(cursor, sizeHint).build();
+    }
+
+    // Formato binário: os arrays na ordem dos campos, cada um precedido do tamanho
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(kinds.length);
+        out.write(kinds);
+        for (long value : values) {
+            out.writeLong(value);
+        }
+        out.writeInt(slots.length);
+        for (int slot : slots) {
+            out.writeInt(slot);
+        }
+        out.writeInt(text.length);
+        for (char c : text) {
+            out.writeChar(c);
+        }
+        out.writeInt(names.length);
+        for (String name : names) {
+            out.writeInt(name.length());
+            out.writeChars(name);
+        }
+    }
+
+    // Lê o formato de write. available é o máximo de bytes que ainda podem vir (o tamanho do arquivo, por exemplo):
+    // tamanhos negativos ou maiores que isso, e nós, posições ou chaves fora dos arrays, são um arquivo corrompido.
+    public static Tape read(DataInput in, long available) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("not a tape or unsupported version");
+        }
+        long remaining = available - 8;
+        int nodes = length(in, 9, remaining -= 4);
+        byte[] kinds = new byte[nodes];
+        in.readFully(kinds);
+        long[] values = new long[nodes];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readLong();
+        }
+        remaining -= 9L * nodes;
+        int[] slots = new int[length(in, 4, remaining -= 4)];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = in.readInt();
+        }
+        remaining -= 4L * slots.length;
+        char[] text = new char[length(in, 2, remaining -= 4)];
+        for (int i = 0; i < text.length; i++) {
+            text[i] = in.readChar();
+        }
+        remaining -= 2L * text.length;
+        String[] names = new String[length(in, 4, remaining -= 4)];
+        Map<String, Integer> keyIds = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            char[] name = new char[length(in, 2, remaining -= 4)];
+            for (int k = 0; k < name.length; k++) {
+                name[k] = in.readChar();
+            }
+            remaining -= 2L * name.length;
+            names[i] = new String(name);
+            keyIds.put(names[i], i);
+        }
+
+        Tape tape = new Tape(kinds, values, slots, text, names, keyIds);
+        tape.check();
+        return tape;
+    }
+
+    public static Tape read(DataInput in) throws IOException {
+        return read(in, Long.MAX_VALUE);
+    }
+
+    // Tamanho de um array de elementos com unit bytes cada, que precisa caber no que ainda pode vir
+    private static int length(DataInput in, int unit, long remaining) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || (long) length * unit > remaining) {
+            throw new IOException("corrupted tape: invalid length " + length);
+        }
+        return length;
+    }
+
+    // Confere que cada nó aponta para dentro dos arrays e que os filhos vêm depois do pai, como em pré-ordem
+    // (o que também impede ciclos)
+    private void check() throws IOException {
+        if (kinds.length == 0 || (kinds[0] != OBJECT && kinds[0] != ARRAY)) {
+            throw new IOException("corrupted tape: root should be an object or an array");
+        }
+        for (int node = 0; node < kinds.length; node++) {
+            byte kind = kinds[node];
+            if (kind < OBJECT || kind > NULL) {
+                throw new IOException("corrupted tape: invalid kind " + kind + " at node " + node);
+            }
+            if (kind != OBJECT && kind != ARRAY && kind != STRING) {
+                continue;
+            }
+
+            int start = start(node);
+            int count = count(node);
+            long end = kind == OBJECT ? start + 2L * count + (count > LINEAR_LOOKUP ? count : 0) : (long) start + count;
+            if (start < 0 || count < 0 || end > (kind == STRING ? text.length : slots.length)) {
+                throw new IOException("corrupted tape: range out of bounds at node " + node);
+            }
+
+            for (int i = 0; kind == ARRAY && i < count; i++) {
+                checkChild(node, element(node, i));
+            }
+            for (int member = 0; kind == OBJECT && member < count; member++) {
+                int key = slots[start + 2 * member];
+                if (key < 0 || key >= names.length) {
+                    throw new IOException("corrupted tape: invalid key at node " + node);
+                }
+                checkChild(node, memberValue(node, member));
+                if (count > LINEAR_LOOKUP) {
+                    int sorted = slots[start + 2 * count + member];
+                    if (sorted < 0 || sorted >= count) {
+                        throw new IOException("corrupted tape: invalid member order at node " + node);
+                    }
+                }
+            }
+        }
+    }
+
+    private void checkChild(int node, int child) throws IOException {
+        if (child <= node || child >= kinds.length) {
+            throw new IOException("corrupted tape: invalid child " + child + " at node " + node);
+        }
+    }
+
+    // Memória aproximada ocupada pelos arrays e pelo dicionário de chaves
+    public long sizeInBytes() {
+        long size = kinds.length + 8L * values.length + 4L * slots.length + 2L * text.length;
+        for (String name : names) {
+            size += 48 + 2L * name.length();
+        }
+        return size;
+    }
+
+    // Map ou List somente leitura sobre a raiz
+    public Object root() {
+        return value(0);
+    }
+
+    Object value(int node) {
+        return switch (kinds[node]) {
+            case OBJECT -> new TapeMap(this, node);
+            case ARRAY -> new TapeList(this, node);
+            case STRING -> new String(text, start(node), count(node));
+            case LONG -> Long.valueOf(values[node]);
+            case DOUBLE -> Double.valueOf(Double.longBitsToDouble(values[node]));
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
+    int count(int node) {
+        return (int) values[node];
+    }
+
+    int element(int array, int index) {
+        return slots[start(array) + index];
+    }
+
+    String memberKey(int object, int member) {
+        return names[slots[start(object) + 2 * member]];
+    }
+
+    int memberValue(int object, int member) {
+        return slots[start(object) + 2 * member + 1];
+    }
+
+    // Número do membro com a chave, ou -1
+    int find(int object, Object key) {
+        Integer id = key instanceof String ? keyIds.get(key) : null;
+        if (id == null) {
+            return -1;
+        }
+
+        int start = start(object);
+        int count = count(object);
+        if (count <= LINEAR_LOOKUP) {
+            for (int member = 0; member < count; member++) {
+                if (slots[start + 2 * member] == id) {
+                    return member;
+                }
+            }
+            return -1;
+        }
+
+        int sorted = start + 2 * count;
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int member = slots[sorted + middle];
+            int candidate = slots[start + 2 * member];
+            if (candidate < id) {
+                low = middle + 1;
+            } else if (candidate > id) {
+                high = middle - 1;
+            } else {
+                return member;
+            }
+        }
+        return -1;
+    }
+
+    private int start(int node) {
+        return (int) (values[node] >>> 32);
+    }
+}
@@ -0,0 +1,219 @@
+package dev.buskopan.internal.tape;
+
+import dev.buskopan.exception.InvalidSyntaxException;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.lexer.TypeToken;
+import dev.buskopan.internal.parser.TreeParser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Monta um Tape a partir do cursor, com a mesma sintaxe (e os mesmos erros) do TreeParser.
+// Os filhos de um container ficam em uma pilha até ele fechar e então são copiados juntos para slots.
+final class TapeBuilder {
+
+    private final TreeParser treeParser = TreeParser.getInstance();
+    private final TokenCursor cursor;
+
+    private byte[] kinds;
+    private long[] values;
+    private int nodes;
+
+    private int[] slots;
+    private int slotCount;
+
+    private char[] text;
+    private int textLength;
+
+    private int[] stack = new int[64];
+    private int top;
+
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> keyIds = new HashMap<>();
+
+    // Para achar chaves repetidas: em que objeto (carimbo) e em que membro cada chave apareceu
+    private int[] keyStamp = new int[16];
+    private int[] keyMember = new int[16];
+    private int stamp;
+
+    // sizeHint: tamanho da entrada em chars ou bytes, ou 0 se não for conhecido
+    TapeBuilder(TokenCursor cursor, int sizeHint) {
+        this.cursor = cursor;
+        this.kinds = new byte[Math.max(64, sizeHint / 16)];
+        this.values = new long[kinds.length];
+        this.slots = new int[Math.max(64, sizeHint / 16)];
+        this.text = new char[Math.max(256, sizeHint / 2)];
+    }
+
+    Tape build() {
+        TypeToken first = treeParser.first(cursor);
+        if (!first.equals(TypeToken.INICIO_OBJETO) && !first.equals(TypeToken.INICIO_ARRAY)) {
+            throw new InvalidSyntaxException("JSON should start with { or [");
+        }
+        value(first);
+
+        // Só corta os arrays quando sobra mais de um oitavo: o que fica no heap é o documento, não a folga
+        return new Tape(kinds.length - nodes > nodes / 8 ? Arrays.copyOf(kinds, nodes) : kinds,
+                values.length - nodes > nodes / 8 ? Arrays.copyOf(values, nodes) : values,
+                slots.length - slotCount > slotCount / 8 ? Arrays.copyOf(slots, slotCount) : slots,
+                text.length - textLength > textLength / 8 ? Arrays.copyOf(text, textLength) : text,
+                names.toArray(new String[0]), keyIds);
+    }
+
+    private int value(TypeToken type) {
+        return switch (type) {
+            case BOOLEANO -> node(cursor.text().equals("true") ? Tape.TRUE : Tape.FALSE, 0);
+            case TEXTO -> string();
+            case NUMERO -> cursor.isIntegral()
+                    ? node(Tape.LONG, cursor.longValue())
+                    : node(Tape.DOUBLE, Double.doubleToRawLongBits(cursor.doubleValue()));
+            case NULO -> node(Tape.NULL, 0);
+            case INICIO_OBJETO -> object();
+            case INICIO_ARRAY -> array();
+            default -> throw new InvalidSyntaxException("invalid token: " + type.name());
+        };
+    }
+
+    private int string() {
+        if (text.length - textLength < cursor.rawLength()) {
+            text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + cursor.rawLength()));
+        }
+        int length = cursor.copyText(text, textLength);
+        int node = node(Tape.STRING, (long) textLength << 32 | length);
+        textLength += length;
+        return node;
+    }
+
+    private int array() {
+        int node = node(Tape.ARRAY, 0);
+        int base = top;
+
+        while (cursor.hasNext()) {
+            TypeToken token = cursor.nextType();
+            if (token.equals(TypeToken.FIM_ARRAY)) {
+                return closeArray(node, base);
+            }
+
+            push(value(token));
+
+            if (!treeParser.hasNextElement(cursor)) {
+                return closeArray(node, base);
+            }
+        }
+
+        throw new InvalidSyntaxException("expected ] or value");
+    }
+
+    private int closeArray(int node, int base) {
+        int count = top - base;
+        ensureSlots(count);
+        System.arraycopy(stack, base, slots, slotCount, count);
+        values[node] = (long) slotCount << 32 | count;
+        slotCount += count;
+        top = base;
+        return node;
+    }
+
+    private int object() {
+        int node = node(Tape.OBJECT, 0);
+        int base = top;
+
+        if (!cursor.hasNext()) {
+            throw new InvalidSyntaxException("Expected } or string");
+        }
+
+        while (treeParser.readKeyToken(cursor)) {
+            int key = keyId(cursor.key());
+            treeParser.readColon(cursor);
+            int child = value(cursor.nextType());
+            push(key);
+            push(child);
+
+            if (!treeParser.hasNextMember(cursor)) {
+                break;
+            }
+        }
+
+        return closeObject(node, base);
+    }
+
+    private int closeObject(int node, int base) {
+        // Chave repetida: fica o último valor, na posição da primeira ocorrência, como no Map
+        int current = ++stamp;
+        int count = 0;
+        for (int i = base; i < top; i += 2) {
+            int key = stack[i];
+            if (keyStamp[key] == current) {
+                stack[base + 2 * keyMember[key] + 1] = stack[i + 1];
+                continue;
+            }
+            keyStamp[key] = current;
+            keyMember[key] = count;
+            stack[base + 2 * count] = key;
+            stack[base + 2 * count + 1] = stack[i + 1];
+            count++;
+        }
+
+        int start = slotCount;
+        ensureSlots(2 * count + (count > Tape.LINEAR_LOOKUP ? count : 0));
+        System.arraycopy(stack, base, slots, start, 2 * count);
+        slotCount += 2 * count;
+
+        if (count > Tape.LINEAR_LOOKUP) {
+            long[] order = new long[count];
+            for (int member = 0; member < count; member++) {
+                order[member] = (long) slots[start + 2 * member] << 32 | member;
+            }
+            Arrays.sort(order);
+            for (long entry : order) {
+                slots[slotCount++] = (int) entry;
+            }
+        }
+
+        values[node] = (long) start << 32 | count;
+        top = base;
+        return node;
+    }
+
+    private int keyId(String key) {
+        Integer id = keyIds.get(key);
+        if (id != null) {
+            return id;
+        }
+
+        int created = names.size();
+        names.add(key);
+        keyIds.put(key, created);
+        if (created == keyStamp.length) {
+            keyStamp = Arrays.copyOf(keyStamp, created * 2);
+            keyMember = Arrays.copyOf(keyMember, created * 2);
+        }
+        return created;
+    }
+
+    private int node(byte kind, long value) {
+        if (nodes == kinds.length) {
+            kinds = Arrays.copyOf(kinds, nodes * 2);
+            values = Arrays.copyOf(values, nodes * 2);
+        }
+        kinds[nodes] = kind;
+        values[nodes] = value;
+        return nodes++;
+    }
+
+    private void push(int value) {
+        if (top == stack.length) {
+            stack = Arrays.copyOf(stack, top * 2);
+        }
+        stack[top++] = value;
+    }
+
+    private void ensureSlots(int needed) {
+        if (slots.length - slotCount < needed) {
+            slots = Arrays.copyOf(slots, Math.max(slots.length * 2, slotCount + needed));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.buskopan.internal.tape;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// Array de um Tape como List somente leitura
+final class TapeList extends AbstractList<Object> implements RandomAccess {
+
+    private final Tape tape;
+    private final int node;
+
+    TapeList(Tape tape, int node) {
+        this.tape = tape;
+        this.node = node;
+    }
+
+    @Override
+    public int size() {
+        return tape.count(node);
+    }
+
+    @Override
+    public Object get(int index) {
+        Objects.checkIndex(index, tape.count(node));
+        return tape.value(tape.element(node, index));
+    }
+}
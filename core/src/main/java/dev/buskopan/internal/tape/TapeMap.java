@@ -0,0 +1,68 @@
+package dev.buskopan.internal.tape;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+// Objeto de um Tape como Map somente leitura, na ordem do documento
+final class TapeMap extends AbstractMap<String, Object> {
+
+    private final Tape tape;
+    private final int node;
+
+    TapeMap(Tape tape, int node) {
+        this.tape = tape;
+        this.node = node;
+    }
+
+    @Override
+    public int size() {
+        return tape.count(node);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return tape.find(node, key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int member = tape.find(node, key);
+        return member < 0 ? null : tape.value(tape.memberValue(node, member));
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return tape.count(node);
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int member;
+
+                    @Override
+                    public boolean hasNext() {
+                        return member < tape.count(node);
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, Object> entry = new SimpleImmutableEntry<>(tape.memberKey(node, member),
+                                tape.value(tape.memberValue(node, member)));
+                        member++;
+                        return entry;
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package dev.buskopan.parser;
+
+/**
+ * Como o binding {@link BindingMode#DIRECT direto} grava os valores nos campos da classe alvo.
+ */
+public enum BinderMode {
+    /**
+     * Usa o binder gerado pelo processador de anotações, se houver. Senão, na primeira leitura da classe,
+     * gera um em tempo de execução (classe oculta com gravação direta nos campos). Classes que não podem ter
+     * binder gerado, ou fora do alcance de {@code MethodHandles.privateLookupIn}, continuam na reflexão.
+     */
+    GENERATED,
+    /**
+     * Sempre usa o plano por reflexão ({@code MethodHandle} para cada campo).
+     */
+    REFLECTION;
+}
@@ -0,0 +1,16 @@
+package dev.buskopan.parser;
+
+/**
+ * Como o {@link JsonParser} chega do texto ao objeto alvo.
+ */
+public enum BindingMode {
+    /**
+     * Lê o JSON e grava os valores direto na instância alvo, guiado pelos campos da classe.
+     * Chaves desconhecidas são validadas e descartadas sem montar Map/List.
+     */
+    DIRECT,
+    /**
+     * Monta primeiro a árvore completa de Map/List e depois converte a árvore no objeto alvo.
+     */
+    TREE;
+}
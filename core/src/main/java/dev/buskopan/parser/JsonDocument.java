@@ -0,0 +1,65 @@
+package dev.buskopan.parser;
+
+import dev.buskopan.exception.InvalidSyntaxException;
+import dev.buskopan.internal.lexer.StructuralIndex;
+import dev.buskopan.internal.lexer.SymbolTable;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.parser.ToObject;
+
+/**
+ * JSON lido sob demanda. Na criação só o índice estrutural da entrada é montado; cada objeto ou array
+ * é percorrido (só no próprio nível) na primeira vez que é acessado, e strings e números só são
+ * convertidos quando lidos. Ler poucos campos de um documento grande custa pouco mais que a varredura.
+ * <p>
+ * Os nós guardam o que já foi lido, então um documento não deve ser usado por várias threads ao mesmo tempo.
+ */
+public final class JsonDocument {
+
+    private final StructuralIndex index;
+    private final SymbolTable symbols;
+    private final boolean direct;
+    private final ToObject toObject;
+    private final JsonNode root;
+
+    JsonDocument(StructuralIndex index, SymbolTable symbols, boolean direct, ToObject toObject) {
+        this.index = index;
+        this.symbols = symbols;
+        this.direct = direct;
+        this.toObject = toObject;
+
+        if (index.count() == 0) {
+            throw new InvalidSyntaxException("empty JSON");
+        }
+        if (index.charAt(0) != '{' && index.charAt(0) != '[') {
+            throw new InvalidSyntaxException("JSON should start with { or [");
+        }
+        int end = index.skipValue(0);
+        if (end < 0) {
+            throw new InvalidSyntaxException(index.charAt(0) == '[' ? "expected ] or value" : "Expected } or comma");
+        }
+        this.root = new JsonNode(this, 0, end);
+    }
+
+    public JsonNode root() {
+        return root;
+    }
+
+    StructuralIndex index() {
+        return index;
+    }
+
+    boolean direct() {
+        return direct;
+    }
+
+    ToObject toObject() {
+        return toObject;
+    }
+
+    // Cursor só sobre as entradas [first, end) do valor
+    TokenCursor cursor(int first, int end) {
+        TokenCursor cursor = index.cursor(first, end);
+        cursor.symbols(symbols);
+        return cursor;
+    }
+}
@@ -0,0 +1,17 @@
+package dev.buskopan.parser;
+
+/**
+ * Evento de um {@link JsonEventReader}.
+ */
+public enum JsonEvent {
+    START_OBJECT,
+    END_OBJECT,
+    START_ARRAY,
+    END_ARRAY,
+    FIELD_NAME,
+    VALUE_STRING,
+    VALUE_NUMBER,
+    VALUE_TRUE,
+    VALUE_FALSE,
+    VALUE_NULL
+}
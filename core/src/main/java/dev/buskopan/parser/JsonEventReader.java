@@ -0,0 +1,223 @@
+package dev.buskopan.parser;
+
+import dev.buskopan.exception.InvalidSyntaxException;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.lexer.TypeToken;
+
+import java.util.Arrays;
+
+/**
+ * Leitura por eventos (pull), direto sobre o lexer: sem árvore, sem classe alvo e sem {@code Map}/{@code List}.
+ * Criado por {@link JsonParser#events(String)} e pelas outras sobrecargas.
+ * <p>
+ * Cada {@link #nextEvent()} avança um token e valida a estrutura como o parser faz. Os acessores
+ * ({@link #getText()}, {@link #getLong()}, {@link #getDouble()}...) leem o valor do evento atual direto do
+ * buffer do lexer, então só devem ser chamados antes do próximo {@code nextEvent()}. Números e comparações
+ * de chave com {@link #textEquals(String)} não criam objetos; só {@link #getText()} cria uma String.
+ * <p>
+ * Vários documentos podem vir um depois do outro na mesma entrada. Não é thread-safe.
+ */
+public final class JsonEventReader implements AutoCloseable {
+
+    // O que o próximo token pode ser
+    private static final int ROOT = 0;
+    // Chave ou '}', depois de '{' ou de ',' em um objeto
+    private static final int KEY = 1;
+    // ':' e o valor, depois de uma chave
+    private static final int COLON = 2;
+    // Valor ou ']', depois de '[' ou de ',' em um array
+    private static final int ELEMENT = 3;
+    // ',' ou o fechamento, depois de um valor
+    private static final int SEPARATOR = 4;
+
+    private final TokenCursor cursor;
+    private int state = ROOT;
+    private JsonEvent current;
+
+    // Containers abertos: true para objeto
+    private boolean[] objects = new boolean[16];
+    private int depth;
+
+    JsonEventReader(TokenCursor cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Avança para o próximo evento. Devolve {@code null} no fim da entrada.
+     */
+    public JsonEvent nextEvent() {
+        if (!cursor.hasNext()) {
+            if (depth > 0) {
+                throw new InvalidSyntaxException("unexpected end of input");
+            }
+            return current = null;
+        }
+
+        TypeToken token = cursor.nextType();
+        return current = switch (state) {
+            case ROOT -> {
+                if (token != TypeToken.INICIO_OBJETO && token != TypeToken.INICIO_ARRAY) {
+                    throw new InvalidSyntaxException("JSON should start with { or [");
+                }
+                yield value(token);
+            }
+            case KEY -> {
+                if (token == TypeToken.FIM_OBJETO) {
+                    yield close(JsonEvent.END_OBJECT);
+                }
+                if (token != TypeToken.TEXTO) {
+                    throw new InvalidSyntaxException("Expected: string");
+                }
+                state = COLON;
+                yield JsonEvent.FIELD_NAME;
+            }
+            case COLON -> {
+                if (token != TypeToken.DOIS_PONTO || !cursor.hasNext()) {
+                    throw new InvalidSyntaxException("expected: ';' after json key");
+                }
+                yield value(cursor.nextType());
+            }
+            case ELEMENT -> token == TypeToken.FIM_ARRAY ? close(JsonEvent.END_ARRAY) : value(token);
+            default -> separator(token);
+        };
+    }
+
+    public JsonEvent currentEvent() {
+        return current;
+    }
+
+    /**
+     * Número de objetos e arrays abertos no evento atual; {@code START_*} já conta o container que abre.
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Em {@code START_OBJECT} ou {@code START_ARRAY}, pula o container inteiro sem validar o conteúdo,
+     * contando só chaves e colchetes fora de strings. O evento atual passa a ser o fechamento.
+     * Nos outros eventos não faz nada.
+     */
+    public void skipChildren() {
+        if (current != JsonEvent.START_OBJECT && current != JsonEvent.START_ARRAY) {
+            return;
+        }
+        if (!cursor.skipContainer()) {
+            throw new InvalidSyntaxException("unexpected end of input");
+        }
+        if ((cursor.type() == TypeToken.FIM_OBJETO) != objects[depth - 1]) {
+            throw new InvalidSyntaxException("invalid token: " + cursor.type().name());
+        }
+        current = close(current == JsonEvent.START_OBJECT ? JsonEvent.END_OBJECT : JsonEvent.END_ARRAY);
+    }
+
+    /**
+     * Chave em {@code FIELD_NAME}, texto em {@code VALUE_STRING}, e o texto do token nos outros eventos.
+     */
+    public String getText() {
+        if (current == JsonEvent.FIELD_NAME) {
+            return cursor.key();
+        }
+        return cursor.text();
+    }
+
+    /**
+     * Mesmo resultado de {@code getText().equals(value)} em {@code FIELD_NAME} e {@code VALUE_STRING},
+     * sem criar a String.
+     */
+    public boolean textEquals(String value) {
+        return (current == JsonEvent.FIELD_NAME || current == JsonEvent.VALUE_STRING) && cursor.textEquals(value);
+    }
+
+    /**
+     * Se o número atual não tem fração nem expoente.
+     */
+    public boolean isIntegral() {
+        return number().isIntegral();
+    }
+
+    /**
+     * Lança {@link NumberFormatException} se o número não couber no tipo, como {@link Integer#parseInt(String)}.
+     */
+    public int getInt() {
+        return number().intValue();
+    }
+
+    public long getLong() {
+        return number().longValue();
+    }
+
+    public double getDouble() {
+        return number().doubleValue();
+    }
+
+    public boolean getBoolean() {
+        if (current != JsonEvent.VALUE_TRUE && current != JsonEvent.VALUE_FALSE) {
+            throw new IllegalStateException("current event is not a boolean: " + current);
+        }
+        return current == JsonEvent.VALUE_TRUE;
+    }
+
+    /**
+     * Fecha a fonte da entrada, quando ela é um stream, um reader ou um arquivo.
+     */
+    @Override
+    public void close() {
+        cursor.close();
+    }
+
+    private TokenCursor number() {
+        if (current != JsonEvent.VALUE_NUMBER) {
+            throw new IllegalStateException("current event is not a number: " + current);
+        }
+        return cursor;
+    }
+
+    private JsonEvent value(TypeToken token) {
+        return switch (token) {
+            case INICIO_OBJETO -> open(true);
+            case INICIO_ARRAY -> open(false);
+            case TEXTO -> scalar(JsonEvent.VALUE_STRING);
+            case NUMERO -> scalar(JsonEvent.VALUE_NUMBER);
+            case BOOLEANO -> scalar("true".equals(cursor.text()) ? JsonEvent.VALUE_TRUE : JsonEvent.VALUE_FALSE);
+            case NULO -> scalar(JsonEvent.VALUE_NULL);
+            default -> throw new InvalidSyntaxException("invalid token: " + token.name());
+        };
+    }
+
+    private JsonEvent separator(TypeToken token) {
+        boolean object = objects[depth - 1];
+        if (token == TypeToken.VIRGULA) {
+            // Como no parser, uma vírgula antes do fechamento é aceita
+            state = object ? KEY : ELEMENT;
+            return nextEvent();
+        }
+        if (token == TypeToken.FIM_OBJETO && object) {
+            return close(JsonEvent.END_OBJECT);
+        }
+        if (token == TypeToken.FIM_ARRAY && !object) {
+            return close(JsonEvent.END_ARRAY);
+        }
+        throw new InvalidSyntaxException(object ? "Expected ',' or '}'" : "expected ',' or ']' at structure " + cursor.consumed());
+    }
+
+    private JsonEvent open(boolean object) {
+        if (depth == objects.length) {
+            objects = Arrays.copyOf(objects, depth * 2);
+        }
+        objects[depth++] = object;
+        state = object ? KEY : ELEMENT;
+        return object ? JsonEvent.START_OBJECT : JsonEvent.START_ARRAY;
+    }
+
+    private JsonEvent scalar(JsonEvent event) {
+        state = SEPARATOR;
+        return event;
+    }
+
+    private JsonEvent close(JsonEvent event) {
+        depth--;
+        state = depth == 0 ? ROOT : SEPARATOR;
+        return event;
+    }
+}
@@ -0,0 +1,261 @@
+package dev.buskopan.parser;
+
+import dev.buskopan.exception.InvalidCharacterException;
+import dev.buskopan.exception.InvalidSyntaxException;
+import dev.buskopan.internal.lexer.InputBuffer;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.lexer.TypeToken;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Leitura por push para entradas que chegam em pedaços (NIO, servidores reativos): cada pedaço de
+ * bytes UTF-8 é entregue com {@link #feed(ByteBuffer)} assim que chega, sem esperar o corpo inteiro.
+ * <p>
+ * Um varredor de bytes guarda o estado entre os pedaços (profundidade, dentro de string, depois de uma
+ * barra invertida, no meio de um escalar), então um pedaço pode terminar em qualquer lugar, inclusive
+ * no meio de uma string, de um escape, de um número ou de um caractere multibyte. Assim que um valor
+ * fecha, ele é convertido e entregue ao consumidor, ainda dentro do {@code feed}:
+ * <ul>
+ *     <li>um objeto na raiz é entregue quando fecha;</li>
+ *     <li>um array na raiz é entregue elemento por elemento, como em {@link JsonParser#stream(String, Class)}
+ *     (elementos que não são objetos são descartados).</li>
+ * </ul>
+ * Vários documentos podem vir um depois do outro na mesma entrada. Depois de um erro (de sintaxe, de
+ * conversão ou do consumidor) o feeder não aceita mais pedaços. Um feeder não é thread-safe.
+ */
+public final class JsonFeeder<T> {
+
+    private final JsonParser parser;
+    private final Class<T> targetClass;
+    private final Consumer<? super T> sink;
+    private final InputBuffer input = new InputBuffer();
+
+    // Bytes do valor aberto (ou do escalar solto)
+    private byte[] value = new byte[1024];
+    private int length;
+
+    // Profundidade dentro do objeto ou array aberto; 0 quando não há um
+    private int depth;
+    private boolean inString;
+    private boolean escape;
+    // Escalar solto entre os elementos do array da raiz, que é validado e descartado
+    private boolean scalar;
+    private boolean rootArray;
+    // Depois de um elemento do array da raiz, só ',' ou ']'
+    private boolean afterElement;
+    private boolean ended;
+    private boolean failed;
+    private byte[] scratch;
+
+    JsonFeeder(JsonParser parser, Class<T> targetClass, Consumer<? super T> sink) {
+        this.parser = parser;
+        this.targetClass = targetClass;
+        this.sink = sink;
+    }
+
+    /**
+     * Consome todos os bytes restantes do buffer (a posição vai até o limite).
+     */
+    public void feed(ByteBuffer chunk) {
+        if (ended) {
+            throw new IllegalStateException("input already ended");
+        }
+        if (failed) {
+            throw new IllegalStateException("feeder failed on an earlier chunk");
+        }
+
+        try {
+            scanChunk(chunk);
+        } catch (RuntimeException | Error ex) {
+            // O estado do varredor ficou no meio de um valor
+            failed = true;
+            throw ex;
+        }
+    }
+
+    public void feed(byte[] chunk) {
+        feed(ByteBuffer.wrap(chunk));
+    }
+
+    /**
+     * Fim da entrada: falha se algum valor ficou aberto.
+     */
+    public void endOfInput() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        if (failed) {
+            return;
+        }
+
+        if (scalar && !inString) {
+            checkScalar();
+        }
+        if (depth > 0 || scalar) {
+            throw new InvalidSyntaxException("unexpected end of input");
+        }
+        if (rootArray) {
+            throw new InvalidSyntaxException("expected ] or value");
+        }
+    }
+
+    private void scanChunk(ByteBuffer chunk) {
+        if (chunk.hasArray()) {
+            byte[] bytes = chunk.array();
+            int from = chunk.arrayOffset() + chunk.position();
+            scan(bytes, from, chunk.arrayOffset() + chunk.limit());
+            chunk.position(chunk.limit());
+            return;
+        }
+
+        // Buffer direto: copiado aos poucos
+        if (scratch == null) {
+            scratch = new byte[8192];
+        }
+        while (chunk.hasRemaining()) {
+            int n = Math.min(chunk.remaining(), scratch.length);
+            chunk.get(scratch, 0, n);
+            scan(scratch, 0, n);
+        }
+    }
+
+    private void scan(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+
+            if (depth > 0) {
+                append(b);
+                if (inString) {
+                    if (escape) {
+                        escape = false;
+                    } else if (b == '\\') {
+                        escape = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                } else if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if ((b == '}' || b == ']') && --depth == 0) {
+                    complete();
+                }
+                continue;
+            }
+
+            if (scalar) {
+                if (inString) {
+                    append(b);
+                    if (escape) {
+                        escape = false;
+                    } else if (b == '\\') {
+                        escape = true;
+                    } else if (b == '"') {
+                        inString = false;
+                        checkScalar();
+                    }
+                    continue;
+                }
+                if (!isDelimiter(b)) {
+                    append(b);
+                    continue;
+                }
+                // O delimitador fecha o escalar e é tratado abaixo
+                checkScalar();
+            }
+
+            if (isWhitespace(b)) {
+                continue;
+            }
+            if (rootArray) {
+                element(b);
+            } else if (b == '{') {
+                open(b);
+            } else if (b == '[') {
+                rootArray = true;
+                afterElement = false;
+            } else {
+                throw new InvalidSyntaxException("JSON should start with { or [");
+            }
+        }
+    }
+
+    // Um byte entre os elementos do array da raiz
+    private void element(byte b) {
+        if (b == ']') {
+            rootArray = false;
+            return;
+        }
+        if (afterElement) {
+            if (b != ',') {
+                throw new InvalidSyntaxException("expected ',' or ']'");
+            }
+            afterElement = false;
+            return;
+        }
+        if (b == ',' || b == '}' || b == ':') {
+            throw new InvalidSyntaxException("expected ] or value");
+        }
+
+        afterElement = true;
+        if (b == '{' || b == '[') {
+            open(b);
+        } else {
+            length = 0;
+            append(b);
+            scalar = true;
+            inString = b == '"';
+        }
+    }
+
+    // O escalar solto fechou: mesmo descartado, passa pelo lexer, que valida literais, números e escapes
+    // como em stream()
+    private void checkScalar() {
+        scalar = false;
+        TokenCursor cursor = input.cursor(value, 0, length, false);
+        if (cursor.nextType() == TypeToken.TEXTO) {
+            cursor.text();
+        }
+        if (cursor.hasNext()) {
+            throw new InvalidCharacterException("Invalid value " + new String(value, 0, length, StandardCharsets.UTF_8));
+        }
+        length = 0;
+    }
+
+    private void open(byte b) {
+        length = 0;
+        append(b);
+        depth = 1;
+    }
+
+    // O valor aberto fechou: converte e entrega. Arrays dentro do array da raiz são descartados.
+    private void complete() {
+        if (value[0] == '[') {
+            length = 0;
+            return;
+        }
+        T converted = parser.parseSingle(input.cursor(value, 0, length, false), targetClass);
+        length = 0;
+        sink.accept(converted);
+    }
+
+    private void append(byte b) {
+        if (length == value.length) {
+            value = Arrays.copyOf(value, length * 2);
+        }
+        value[length++] = b;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return isWhitespace(b) || b == ',' || b == ']' || b == '}';
+    }
+}
@@ -0,0 +1,331 @@
+package dev.buskopan.parser;
+
+import dev.buskopan.internal.lexer.InputBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Leitura de NDJSON / JSON Lines (um documento por linha, como em logs e eventos), criada por
+ * {@link JsonParser#lines(Class)}.
+ * <p>
+ * A entrada é lida em blocos de bytes e cada linha é lida direto do bloco, sem uma String por linha;
+ * só o pedaço da última linha, que continua no bloco seguinte, é copiado. Cada bloco é um lote: com um
+ * {@link #executor(Executor)} (um {@link ForkJoinPool}, {@code Executors.newVirtualThreadPerTaskExecutor()}...)
+ * os lotes são convertidos nele enquanto os próximos blocos são lidos, com até {@link #window(int)} lotes
+ * em andamento. Sem executor, tudo roda na thread que consome o resultado.
+ * <p>
+ * Linhas em branco são ignoradas e um {@code \r} no fim da linha é aceito. O primeiro erro de uma linha
+ * é lançado por quem consome o resultado, quando chega ao lote dela.
+ * <p>
+ * A configuração pode ser reaproveitada para várias leituras; cada {@link Iterator} ou {@link Stream}
+ * devolvido é consumido por uma thread só.
+ */
+public final class JsonLines<T> {
+
+    private static final int DEFAULT_BATCH_BYTES = 256 * 1024;
+
+    private final JsonParser parser;
+    private final Class<T> targetClass;
+    private Executor executor;
+    private int batchBytes = DEFAULT_BATCH_BYTES;
+    private int window;
+    private boolean ordered = true;
+
+    JsonLines(JsonParser parser, Class<T> targetClass) {
+        this.parser = parser;
+        this.targetClass = targetClass;
+    }
+
+    /**
+     * Executor dos lotes. Sem ele (o padrão), as linhas são convertidas na thread que consome o resultado.
+     */
+    public JsonLines<T> executor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    /**
+     * Tamanho de cada bloco lido (e de cada lote), em bytes. Uma linha maior que o bloco aumenta só
+     * aquele bloco. O padrão é 256 KB.
+     */
+    public JsonLines<T> batchBytes(int batchBytes) {
+        if (batchBytes <= 0) {
+            throw new IllegalArgumentException("batchBytes must be positive");
+        }
+        this.batchBytes = batchBytes;
+        return this;
+    }
+
+    /**
+     * Número máximo de lotes lidos e ainda não consumidos. O padrão é o dobro das threads do executor
+     * (do número de processadores quando o executor não é um {@link ForkJoinPool}).
+     */
+    public JsonLines<T> window(int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        this.window = window;
+        return this;
+    }
+
+    /**
+     * Com {@code false}, cada lote é entregue assim que fica pronto, e a ordem só é mantida dentro do lote.
+     * O padrão é {@code true}: a ordem das linhas na entrada.
+     */
+    public JsonLines<T> ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * A entrada não é fechada pelo iterador.
+     */
+    public Iterator<T> iterator(InputStream json) {
+        return new LineIterator(Objects.requireNonNull(json));
+    }
+
+    public Stream<T> stream(InputStream json) {
+        LineIterator lines = new LineIterator(Objects.requireNonNull(json));
+        return stream(lines).onClose(lines::cancel);
+    }
+
+    /**
+     * O arquivo fica aberto até o stream ser fechado.
+     */
+    public Stream<T> stream(Path json) {
+        InputStream in;
+        try {
+            in = Files.newInputStream(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        LineIterator lines = new LineIterator(in);
+        return stream(lines).onClose(() -> {
+            lines.cancel();
+            try {
+                in.close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private Stream<T> stream(LineIterator lines) {
+        int characteristics = Spliterator.NONNULL | (ordered ? Spliterator.ORDERED : 0);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(lines, characteristics), false);
+    }
+
+    private final class LineIterator implements Iterator<T> {
+
+        private final InputStream in;
+        private final int maxPending;
+        private final ArrayDeque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+        // Buffers de entrada dos lotes já convertidos, reaproveitados pelos próximos
+        private final ConcurrentLinkedQueue<InputBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+        // Começo da linha que ainda não terminou no último bloco lido
+        private byte[] carry = new byte[0];
+        private int carryLength;
+        private boolean eof;
+        // Tamanho útil do último bloco lido
+        private int blockLength;
+
+        private List<T> current = List.of();
+        private int position;
+
+        LineIterator(InputStream in) {
+            this.in = in;
+            if (executor == null) {
+                maxPending = 1;
+            } else if (window > 0) {
+                maxPending = window;
+            } else {
+                int threads = executor instanceof ForkJoinPool pool ? pool.getParallelism() : Runtime.getRuntime().availableProcessors();
+                maxPending = 2 * threads;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (position == current.size()) {
+                fill();
+                if (pending.isEmpty()) {
+                    return false;
+                }
+                current = join(nextDone());
+                position = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.get(position++);
+        }
+
+        void cancel() {
+            for (CompletableFuture<List<T>> batch : pending) {
+                batch.cancel(false);
+            }
+            pending.clear();
+            eof = true;
+            carryLength = 0;
+        }
+
+        // Lê e envia lotes até a janela encher ou a entrada acabar
+        private void fill() {
+            while (pending.size() < maxPending) {
+                byte[] block = readBlock();
+                if (block == null) {
+                    return;
+                }
+                int length = blockLength;
+                pending.add(executor == null
+                        ? CompletableFuture.completedFuture(parse(block, length))
+                        : CompletableFuture.supplyAsync(() -> parse(block, length), executor));
+            }
+        }
+
+        private CompletableFuture<List<T>> nextDone() {
+            if (ordered) {
+                return pending.poll();
+            }
+            while (true) {
+                for (Iterator<CompletableFuture<List<T>>> it = pending.iterator(); it.hasNext(); ) {
+                    CompletableFuture<List<T>> batch = it.next();
+                    if (batch.isDone()) {
+                        it.remove();
+                        return batch;
+                    }
+                }
+                // Espera qualquer um terminar; o erro, se houver, sai no join do lote
+                CompletableFuture.anyOf(pending.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+            }
+        }
+
+        private List<T> join(CompletableFuture<List<T>> batch) {
+            try {
+                return batch.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (ex.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+
+        // Próximo bloco terminado em uma quebra de linha (ou no fim da entrada), com o tamanho em blockLength.
+        // O que vem depois da última quebra fica em carry e abre o bloco seguinte.
+        private byte[] readBlock() {
+            if (eof) {
+                return null;
+            }
+
+            byte[] block = new byte[Math.max(batchBytes, 2 * carryLength)];
+            System.arraycopy(carry, 0, block, 0, carryLength);
+            int length = carryLength;
+            // carry não tem quebra de linha
+            int scanned = carryLength;
+
+            try {
+                while (true) {
+                    length += in.readNBytes(block, length, block.length - length);
+                    if (length < block.length) {
+                        eof = true;
+                        carryLength = 0;
+                        blockLength = length;
+                        return length == 0 ? null : block;
+                    }
+
+                    int end = lastNewline(block, scanned, length);
+                    if (end >= 0) {
+                        carryLength = length - end - 1;
+                        if (carry.length < carryLength) {
+                            carry = new byte[Math.max(carryLength, 2 * carry.length)];
+                        }
+                        System.arraycopy(block, end + 1, carry, 0, carryLength);
+                        blockLength = end + 1;
+                        return block;
+                    }
+
+                    // Linha maior que o bloco
+                    scanned = length;
+                    block = Arrays.copyOf(block, 2 * block.length);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private List<T> parse(byte[] block, int length) {
+            InputBuffer input = buffers.poll();
+            if (input == null) {
+                input = new InputBuffer();
+            }
+
+            List<T> result = new ArrayList<>();
+            int from = 0;
+            while (from < length) {
+                int end = from;
+                while (end < length && block[end] != '\n') {
+                    end++;
+                }
+                int to = end > from && block[end - 1] == '\r' ? end - 1 : end;
+
+                if (!isBlank(block, from, to)) {
+                    result.add(parser.parseSingle(input.cursor(block, from, to, parser.usesStructuralIndex()), targetClass));
+                }
+                from = end + 1;
+            }
+
+            buffers.add(input);
+            return result;
+        }
+    }
+
+    private static int lastNewline(byte[] block, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (block[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isBlank(byte[] block, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = block[i];
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
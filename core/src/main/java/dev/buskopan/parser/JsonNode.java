@@ -0,0 +1,306 @@
+package dev.buskopan.parser;
+
+import dev.buskopan.exception.ConvertToObjectException;
+import dev.buskopan.exception.InvalidSyntaxException;
+import dev.buskopan.internal.lexer.StructuralIndex;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.lexer.TypeToken;
+import dev.buskopan.internal.parser.TreeParser;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Um valor de um {@link JsonDocument}. Os filhos de um objeto ou array só são localizados
+ * no primeiro acesso, e cada filho só é lido quando ele mesmo é acessado.
+ */
+public final class JsonNode {
+
+    // Acima disso as chaves de um objeto ganham um mapa em vez da busca linear
+    private static final int LINEAR_LOOKUP = 8;
+
+    private final JsonDocument document;
+    // Entradas do índice estrutural: onde o valor começa e a primeira depois dele
+    private final int first;
+    private final int end;
+    private final JsonType type;
+
+    // Preenchidos na primeira vez que o container é percorrido
+    private int size = -1;
+    private int[] starts;
+    private int[] ends;
+    private int[] keyEntries;
+    private String[] keys;
+    private Map<String, Integer> keyPositions;
+    private JsonNode[] children;
+
+    JsonNode(JsonDocument document, int first, int end) {
+        this.document = document;
+        this.first = first;
+        this.end = end;
+        this.type = typeOf(document.index().charAt(first));
+    }
+
+    public JsonType type() {
+        return type;
+    }
+
+    public boolean isNull() {
+        return type == JsonType.NULL;
+    }
+
+    /**
+     * Número de membros de um objeto ou de elementos de um array.
+     */
+    public int size() {
+        requireContainer();
+        scan();
+        return size;
+    }
+
+    /**
+     * Valor de um membro do objeto, ou {@code null} se a chave não existe. Com chaves repetidas vale a última.
+     */
+    public JsonNode get(String key) {
+        require(JsonType.OBJECT);
+        scan();
+        decodeKeys();
+
+        int member = -1;
+        if (keyPositions != null) {
+            member = keyPositions.getOrDefault(key, -1);
+        } else {
+            for (int i = size - 1; i >= 0; i--) {
+                if (keys[i].equals(key)) {
+                    member = i;
+                    break;
+                }
+            }
+        }
+        return member < 0 ? null : child(member);
+    }
+
+    public boolean has(String key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Elemento de um array, ou valor do i-ésimo membro de um objeto.
+     */
+    public JsonNode get(int index) {
+        requireContainer();
+        scan();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return child(index);
+    }
+
+    /**
+     * Chaves do objeto, na ordem em que aparecem.
+     */
+    public List<String> keys() {
+        require(JsonType.OBJECT);
+        scan();
+        decodeKeys();
+        return List.of(Arrays.copyOf(keys, size));
+    }
+
+    /**
+     * Texto de uma string (já sem escapes), ou o texto original de um número ou booleano. {@code null} para null.
+     */
+    public String asText() {
+        if (type == JsonType.NULL) {
+            return null;
+        }
+        TokenCursor cursor = scalar();
+        return cursor.text();
+    }
+
+    public int asInt() {
+        require(JsonType.NUMBER);
+        return scalar().intValue();
+    }
+
+    public long asLong() {
+        require(JsonType.NUMBER);
+        return scalar().longValue();
+    }
+
+    public double asDouble() {
+        require(JsonType.NUMBER);
+        return scalar().doubleValue();
+    }
+
+    public boolean asBoolean() {
+        require(JsonType.BOOLEAN);
+        scalar();
+        return document.index().charAt(first) == 't';
+    }
+
+    /**
+     * Converte este objeto em uma instância da classe, como no {@link JsonParser#parseSingle(String, Class)}.
+     */
+    public <T> T as(Class<T> target) {
+        require(JsonType.OBJECT);
+        TokenCursor cursor = document.cursor(first, end);
+        if (document.direct()) {
+            return document.toObject().read(cursor, target);
+        }
+        return document.toObject().convert(TreeParser.getInstance().parse(cursor), target);
+    }
+
+    /**
+     * Monta o valor inteiro como no modo árvore: {@code Map}, {@code List}, {@code String}, {@code Long},
+     * {@code Double}, {@code Boolean} ou {@code null}.
+     */
+    public Object value() {
+        TokenCursor cursor = document.cursor(first, end);
+        return TreeParser.getInstance().parseValue(cursor.nextType(), cursor);
+    }
+
+    @Override
+    public String toString() {
+        StructuralIndex index = document.index();
+        int to = end < index.count() ? index.position(end) : index.to();
+        return new String(index.buf(), index.position(first), to - index.position(first)).strip();
+    }
+
+    private JsonNode child(int i) {
+        if (children[i] == null) {
+            children[i] = new JsonNode(document, starts[i], ends[i]);
+        }
+        return children[i];
+    }
+
+    private TokenCursor scalar() {
+        if (type == JsonType.OBJECT || type == JsonType.ARRAY) {
+            throw new ConvertToObjectException("JSON node is not a value: " + type);
+        }
+        TokenCursor cursor = document.cursor(first, end);
+        cursor.nextType();
+        return cursor;
+    }
+
+    // Percorre só o primeiro nível do container, pulando os filhos pelo índice estrutural
+    private void scan() {
+        if (size >= 0) {
+            return;
+        }
+
+        StructuralIndex index = document.index();
+        boolean object = type == JsonType.OBJECT;
+        int close = end - 1;
+        int capacity = 8;
+        int count = 0;
+        starts = new int[capacity];
+        ends = new int[capacity];
+        keyEntries = object ? new int[capacity] : null;
+
+        int k = first + 1;
+        while (k < close) {
+            int value = k;
+            if (object) {
+                if (index.charAt(k) != '"') {
+                    throw new InvalidSyntaxException("Expected: string");
+                }
+                if (k + 2 >= close || index.charAt(k + 2) != ':') {
+                    throw new InvalidSyntaxException("expected: ';' after json key");
+                }
+                value = k + 3;
+            }
+            if (value >= close) {
+                throw new InvalidSyntaxException("invalid token: " + (object ? TypeToken.FIM_OBJETO : TypeToken.FIM_ARRAY));
+            }
+            checkValue(index.charAt(value));
+
+            int next = index.skipValue(value);
+            if (count == capacity) {
+                capacity *= 2;
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                if (object) {
+                    keyEntries = Arrays.copyOf(keyEntries, capacity);
+                }
+            }
+            starts[count] = value;
+            ends[count] = next;
+            if (object) {
+                keyEntries[count] = k;
+            }
+            count++;
+
+            if (next == close) {
+                break;
+            }
+            if (index.charAt(next) != ',') {
+                throw new InvalidSyntaxException(object ? "Expected ',' or '}'" : "expected ',' or ']'");
+            }
+            // Assim como no parser em árvore, a vírgula final antes do fechamento é aceita
+            k = next + 1;
+        }
+
+        if (index.charAt(close) != (object ? '}' : ']')) {
+            throw new InvalidSyntaxException(object ? "Expected ',' or '}'" : "expected ',' or ']'");
+        }
+
+        size = count;
+        children = new JsonNode[count];
+    }
+
+    private void decodeKeys() {
+        if (keys != null) {
+            return;
+        }
+
+        keys = new String[size];
+        for (int i = 0; i < size; i++) {
+            TokenCursor cursor = document.cursor(keyEntries[i], keyEntries[i] + 2);
+            cursor.nextType();
+            keys[i] = cursor.key();
+        }
+
+        if (size > LINEAR_LOOKUP) {
+            keyPositions = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                keyPositions.put(keys[i], i);
+            }
+        }
+    }
+
+    private void require(JsonType expected) {
+        if (type != expected) {
+            throw new ConvertToObjectException("JSON node is " + type + ", not " + expected);
+        }
+    }
+
+    private void requireContainer() {
+        if (type != JsonType.OBJECT && type != JsonType.ARRAY) {
+            throw new ConvertToObjectException("JSON node is " + type + ", not OBJECT or ARRAY");
+        }
+    }
+
+    private static void checkValue(char c) {
+        switch (c) {
+            case '}' -> throw new InvalidSyntaxException("invalid token: " + TypeToken.FIM_OBJETO.name());
+            case ']' -> throw new InvalidSyntaxException("invalid token: " + TypeToken.FIM_ARRAY.name());
+            case ',' -> throw new InvalidSyntaxException("invalid token: " + TypeToken.VIRGULA.name());
+            case ':' -> throw new InvalidSyntaxException("invalid token: " + TypeToken.DOIS_PONTO.name());
+            default -> {
+            }
+        }
+    }
+
+    private static JsonType typeOf(char c) {
+        return switch (c) {
+            case '{' -> JsonType.OBJECT;
+            case '[' -> JsonType.ARRAY;
+            case '"' -> JsonType.STRING;
+            case 't', 'f' -> JsonType.BOOLEAN;
+            case 'n' -> JsonType.NULL;
+            default -> JsonType.NUMBER;
+        };
+    }
+}
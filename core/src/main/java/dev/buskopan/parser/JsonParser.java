@@ -0,0 +1,509 @@
+package dev.buskopan.parser;
+
+import dev.buskopan.internal.lexer.Lexer;
+import dev.buskopan.internal.lexer.StructuralIndex;
+import dev.buskopan.internal.lexer.SymbolTable;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.parser.ParallelListReader;
+import dev.buskopan.internal.parser.PathReader;
+import dev.buskopan.internal.parser.ToObject;
+import dev.buskopan.internal.parser.TreeParser;
+import dev.buskopan.internal.tape.Tape;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Converte JSON em objetos Java.
+ * <p>
+ * Uma instância é imutável e não guarda estado entre chamadas: todo o estado de uma leitura
+ * vive no cursor criado para aquela chamada. Por isso a mesma instância pode ser compartilhada
+ * por qualquer número de threads (de plataforma ou virtuais) sem sincronização.
+ * A única coisa compartilhada é a tabela de chaves de objeto (ver {@link Builder#symbolTableSize(int)}),
+ * um cache que nunca muda o resultado de uma leitura.
+ */
+public class JsonParser {
+
+    private static final JsonParser INSTANCE = builder().build();
+
+    private final Lexer lexer;
+    private final TreeParser treeParser;
+    private final ToObject toObject;
+    private final ParallelListReader parallelListReader;
+    private final PathReader pathReader;
+    private final BindingMode bindingMode;
+    private final ForkJoinPool parallelPool;
+    private final int parallelThreshold;
+    private final boolean structuralIndex;
+    private final SymbolTable symbols;
+    private final TapeCache tapeCache;
+
+    private JsonParser(Builder builder) {
+        this.lexer = Lexer.getInstance();
+        this.treeParser = TreeParser.getInstance();
+        this.toObject = builder.binderMode == BinderMode.REFLECTION ? ToObject.reflective() : ToObject.getInstance();
+        this.parallelListReader = ParallelListReader.getInstance();
+        this.pathReader = PathReader.getInstance();
+        this.bindingMode = builder.bindingMode;
+        this.parallelPool = builder.parallelPool;
+        this.parallelThreshold = builder.parallelThreshold;
+        this.structuralIndex = builder.structuralIndex;
+        this.symbols = builder.symbolTableSize > 0 ? new SymbolTable(builder.symbolTableSize) : null;
+        this.tapeCache = builder.tapeCache;
+    }
+
+    public static JsonParser getInstance() {
+        return INSTANCE;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Nova sessão de leitura com a configuração deste parser, para uma única thread.
+     */
+    public ParserSession newSession() {
+        return new ParserSession(this);
+    }
+
+    public <T> T parseSingle(String json, Class<T> targetClass) {
+        if (tapeCache != null) {
+            return toObject.convert(cachedTape(json).root(), targetClass);
+        }
+        return parseSingle(cursor(json), targetClass);
+    }
+
+    /**
+     * Lê o JSON em UTF-8 direto do stream, com um buffer de tamanho fixo. O stream não é fechado.
+     */
+    public <T> T parseSingle(InputStream json, Class<T> targetClass) {
+        return parseSingle(lexer.cursor(json), targetClass);
+    }
+
+    /**
+     * Lê o JSON direto do reader, com um buffer de tamanho fixo. O reader não é fechado.
+     */
+    public <T> T parseSingle(Reader json, Class<T> targetClass) {
+        return parseSingle(lexer.cursor(json), targetClass);
+    }
+
+    /**
+     * Lê o JSON em UTF-8 sem convertê-lo antes para String.
+     */
+    public <T> T parseSingle(byte[] json, Class<T> targetClass) {
+        if (tapeCache != null) {
+            return toObject.convert(cachedTape(json).root(), targetClass);
+        }
+        return parseSingle(cursor(json), targetClass);
+    }
+
+    /**
+     * Lê o JSON em UTF-8 entre a posição e o limite do buffer, que avança conforme a leitura.
+     */
+    public <T> T parseSingle(ByteBuffer json, Class<T> targetClass) {
+        return parseSingle(lexer.cursor(json), targetClass);
+    }
+
+    /**
+     * Lê um arquivo JSON em UTF-8 mapeado em memória, sem copiá-lo para o heap.
+     */
+    public <T> T parseSingle(Path json, Class<T> targetClass) {
+        try (TokenCursor cursor = lexer.cursor(json)) {
+            return parseSingle(cursor, targetClass);
+        }
+    }
+
+    /**
+     * Com o modo paralelo ligado no {@link Builder}, arrays grandes são divididos entre as threads do pool.
+     */
+    public <T> List<T> parseList(String json, Class<T> targetClass) {
+        if (tapeCache != null) {
+            return toObject.convertList((List<?>) cachedTape(json).root(), targetClass);
+        }
+        if (parallelPool != null && json.length() >= parallelThreshold) {
+            char[] chars = json.toCharArray();
+            return parallelListReader.readList(chars, 0, chars.length, targetClass, bindingMode == BindingMode.DIRECT, parallelPool, symbols, toObject);
+        }
+        return parseList(cursor(json), targetClass);
+    }
+
+    public <T> List<T> parseList(InputStream json, Class<T> targetClass) {
+        return parseList(lexer.cursor(json), targetClass);
+    }
+
+    public <T> List<T> parseList(Reader json, Class<T> targetClass) {
+        return parseList(lexer.cursor(json), targetClass);
+    }
+
+    public <T> List<T> parseList(byte[] json, Class<T> targetClass) {
+        if (tapeCache != null) {
+            return toObject.convertList((List<?>) cachedTape(json).root(), targetClass);
+        }
+        if (parallelPool != null && json.length >= parallelThreshold) {
+            CharBuffer chars = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(json));
+            return parallelListReader.readList(chars.array(), chars.arrayOffset(), chars.arrayOffset() + chars.limit(),
+                    targetClass, bindingMode == BindingMode.DIRECT, parallelPool, symbols, toObject);
+        }
+        return parseList(cursor(json), targetClass);
+    }
+
+    public <T> List<T> parseList(ByteBuffer json, Class<T> targetClass) {
+        return parseList(lexer.cursor(json), targetClass);
+    }
+
+    public <T> List<T> parseList(Path json, Class<T> targetClass) {
+        try (TokenCursor cursor = lexer.cursor(json)) {
+            return parseList(cursor, targetClass);
+        }
+    }
+
+    /**
+     * Percorre um array JSON na raiz sob demanda: cada elemento é lido e convertido só quando o
+     * stream pede o próximo, então arrays de qualquer tamanho são processados com memória constante.
+     * Elementos que não são objetos são descartados, como em {@link #parseList(String, Class)}.
+     * O stream de entrada não é fechado.
+     */
+    public <T> Stream<T> stream(InputStream json, Class<T> targetClass) {
+        return stream(lexer.cursor(json), targetClass);
+    }
+
+    public <T> Stream<T> stream(Reader json, Class<T> targetClass) {
+        return stream(lexer.cursor(json), targetClass);
+    }
+
+    public <T> Stream<T> stream(String json, Class<T> targetClass) {
+        return stream(lexer.cursor(json), targetClass);
+    }
+
+    public <T> Stream<T> stream(byte[] json, Class<T> targetClass) {
+        return stream(lexer.cursor(json), targetClass);
+    }
+
+    public <T> Stream<T> stream(ByteBuffer json, Class<T> targetClass) {
+        return stream(lexer.cursor(json), targetClass);
+    }
+
+    /**
+     * O arquivo fica aberto até o stream ser fechado; use try-with-resources.
+     */
+    public <T> Stream<T> stream(Path json, Class<T> targetClass) {
+        TokenCursor cursor = lexer.cursor(json);
+        return stream(cursor, targetClass).onClose(cursor::close);
+    }
+
+    /**
+     * Leitura por push: os bytes são entregues ao {@link JsonFeeder} em pedaços, conforme chegam, e cada
+     * objeto é convertido e passado ao consumidor assim que fecha.
+     */
+    public <T> JsonFeeder<T> feeder(Class<T> targetClass, Consumer<? super T> sink) {
+        return new JsonFeeder<>(this, Objects.requireNonNull(targetClass), Objects.requireNonNull(sink));
+    }
+
+    /**
+     * Leitura de NDJSON / JSON Lines: um objeto por linha, convertido para {@code targetClass}, em lotes
+     * que podem rodar em um executor. Veja {@link JsonLines}.
+     */
+    public <T> JsonLines<T> lines(Class<T> targetClass) {
+        return new JsonLines<>(this, Objects.requireNonNull(targetClass));
+    }
+
+    /**
+     * Leitura por eventos, sem árvore nem classe alvo: para quem só agrega valores (somas, contagens,
+     * máximos). Veja {@link JsonEventReader}.
+     */
+    public JsonEventReader events(String json) {
+        return events(cursor(json));
+    }
+
+    public JsonEventReader events(byte[] json) {
+        return events(cursor(json));
+    }
+
+    public JsonEventReader events(ByteBuffer json) {
+        return events(lexer.cursor(json));
+    }
+
+    /**
+     * O stream é fechado por {@link JsonEventReader#close()}.
+     */
+    public JsonEventReader events(InputStream json) {
+        return events(lexer.cursor(json));
+    }
+
+    public JsonEventReader events(Reader json) {
+        return events(lexer.cursor(json));
+    }
+
+    /**
+     * O arquivo fica mapeado até o reader ser fechado; use try-with-resources.
+     */
+    public JsonEventReader events(Path json) {
+        return events(lexer.cursor(json));
+    }
+
+    private JsonEventReader events(TokenCursor cursor) {
+        cursor.symbols(symbols);
+        return new JsonEventReader(cursor);
+    }
+
+    /**
+     * Valores que casam com o caminho, em uma única passada: o que está fora do caminho é pulado
+     * sem ser montado. Os valores vêm como no modo árvore ({@code Map}, {@code List}, {@code String},
+     * {@code Long}, {@code Double}, {@code Boolean} ou {@code null}).
+     */
+    public List<Object> select(String json, JsonPath path) {
+        return select(lexer.cursor(json), path, null);
+    }
+
+    /**
+     * Como {@link #select(String, JsonPath)}, convertendo cada valor encontrado na classe alvo.
+     */
+    public <T> List<T> select(String json, JsonPath path, Class<T> targetClass) {
+        return select(lexer.cursor(json), path, Objects.requireNonNull(targetClass));
+    }
+
+    public List<Object> select(InputStream json, JsonPath path) {
+        return select(lexer.cursor(json), path, null);
+    }
+
+    public <T> List<T> select(InputStream json, JsonPath path, Class<T> targetClass) {
+        return select(lexer.cursor(json), path, Objects.requireNonNull(targetClass));
+    }
+
+    public List<Object> select(Reader json, JsonPath path) {
+        return select(lexer.cursor(json), path, null);
+    }
+
+    public <T> List<T> select(Reader json, JsonPath path, Class<T> targetClass) {
+        return select(lexer.cursor(json), path, Objects.requireNonNull(targetClass));
+    }
+
+    public List<Object> select(byte[] json, JsonPath path) {
+        return select(lexer.cursor(json), path, null);
+    }
+
+    public <T> List<T> select(byte[] json, JsonPath path, Class<T> targetClass) {
+        return select(lexer.cursor(json), path, Objects.requireNonNull(targetClass));
+    }
+
+    private <T> List<T> select(TokenCursor cursor, JsonPath path, Class<T> targetClass) {
+        cursor.symbols(symbols);
+        return pathReader.select(cursor, path.query(), targetClass, bindingMode == BindingMode.DIRECT, toObject);
+    }
+
+    /**
+     * Árvore sem classe alvo em formato compacto: o documento inteiro fica em poucos arrays primitivos
+     * (tipo de cada nó, números, posições dos filhos e o texto das strings) em vez de um {@code HashMap}
+     * por objeto e números em caixa. Devolve um {@code Map} ou {@code List} somente leitura sobre esses
+     * arrays, com os mesmos valores do modo árvore; Strings e números só são criados quando acessados.
+     * Os objetos mantêm a ordem do documento.
+     */
+    public Object parseTree(String json) {
+        return tapeCache != null ? cachedTape(json).root() : tape(cursor(json), json.length()).root();
+    }
+
+    public Object parseTree(byte[] json) {
+        return tapeCache != null ? cachedTape(json).root() : tape(cursor(json), json.length).root();
+    }
+
+    public Object parseTree(InputStream json) {
+        return tape(lexer.cursor(json), 0).root();
+    }
+
+    public Object parseTree(Reader json) {
+        return tape(lexer.cursor(json), 0).root();
+    }
+
+    private Tape tape(TokenCursor cursor, int sizeHint) {
+        cursor.symbols(symbols);
+        return Tape.parse(cursor, sizeHint);
+    }
+
+    // Com o cache ligado, String e byte[] são lidos uma vez para o tape e convertidos a partir dele
+    private Tape cachedTape(String json) {
+        Tape tape = tapeCache.get(json);
+        if (tape == null) {
+            tape = tape(cursor(json), json.length());
+            tapeCache.put(json, tape);
+        }
+        return tape;
+    }
+
+    private Tape cachedTape(byte[] json) {
+        Tape tape = tapeCache.get(json);
+        if (tape == null) {
+            tape = tape(cursor(json), json.length);
+            tapeCache.put(json, tape);
+        }
+        return tape;
+    }
+
+    /**
+     * Documento lido sob demanda: agora só o índice estrutural é montado, e cada objeto, array ou
+     * string só é lido quando acessado. Bom para ler poucos campos de um JSON grande.
+     */
+    public JsonDocument parseDocument(String json) {
+        char[] chars = json.toCharArray();
+        return document(chars, 0, chars.length);
+    }
+
+    public JsonDocument parseDocument(byte[] json) {
+        CharBuffer chars = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(json));
+        return document(chars.array(), chars.arrayOffset(), chars.arrayOffset() + chars.limit());
+    }
+
+    private JsonDocument document(char[] chars, int from, int to) {
+        return new JsonDocument(StructuralIndex.build(chars, from, to), symbols, bindingMode == BindingMode.DIRECT, toObject);
+    }
+
+    private <T> Stream<T> stream(TokenCursor cursor, Class<T> targetClass) {
+        cursor.symbols(symbols);
+        Iterator<T> elements = toObject.iterate(cursor, targetClass, bindingMode == BindingMode.DIRECT);
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    // Com o índice estrutural ligado, a entrada é copiada para um array e indexada antes da leitura
+    private TokenCursor cursor(String json) {
+        if (!structuralIndex) {
+            return lexer.cursor(json);
+        }
+        char[] chars = json.toCharArray();
+        return lexer.indexedCursor(chars, 0, chars.length);
+    }
+
+    private TokenCursor cursor(byte[] json) {
+        if (!structuralIndex) {
+            return lexer.cursor(json);
+        }
+        CharBuffer chars = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(json));
+        return lexer.indexedCursor(chars.array(), chars.arrayOffset(), chars.arrayOffset() + chars.limit());
+    }
+
+    boolean usesStructuralIndex() {
+        return structuralIndex;
+    }
+
+    <T> T parseSingle(TokenCursor cursor, Class<T> targetClass) {
+        cursor.symbols(symbols);
+        if (bindingMode == BindingMode.DIRECT) {
+            return toObject.read(cursor, targetClass);
+        }
+
+        Object parse = treeParser.parse(cursor);
+        T converted = toObject.convert(parse, targetClass);
+        return converted;
+    }
+
+    <T> List<T> parseList(TokenCursor cursor, Class<T> targetClass) {
+        cursor.symbols(symbols);
+        if (bindingMode == BindingMode.DIRECT) {
+            return toObject.readList(cursor, targetClass);
+        }
+
+        List<?> parse = (List<?>) treeParser.parse(cursor);
+        List<T> converted = toObject.convertList(parse, targetClass);
+        return converted;
+    }
+
+    /**
+     * Configuração de um {@link JsonParser}. O parser criado é imutável.
+     */
+    public static class Builder {
+
+        private BindingMode bindingMode = BindingMode.DIRECT;
+        private BinderMode binderMode = BinderMode.GENERATED;
+        private ForkJoinPool parallelPool;
+        private int parallelThreshold = 1 << 16;
+        private boolean structuralIndex = false;
+        private int symbolTableSize = 1024;
+        private TapeCache tapeCache;
+
+        private Builder() {
+        }
+
+        public Builder bindingMode(BindingMode bindingMode) {
+            this.bindingMode = Objects.requireNonNull(bindingMode);
+            return this;
+        }
+
+        /**
+         * Como o binding direto grava os campos: binders gerados (o padrão) ou só reflexão.
+         */
+        public Builder binderMode(BinderMode binderMode) {
+            this.binderMode = Objects.requireNonNull(binderMode);
+            return this;
+        }
+
+        /**
+         * Liga o modo paralelo do {@code parseList} para {@code String} e {@code byte[]}: o array na raiz
+         * é dividido nos limites dos elementos e os blocos são lidos e convertidos no pool, mantendo a ordem.
+         */
+        public Builder parallel(ForkJoinPool pool) {
+            this.parallelPool = Objects.requireNonNull(pool);
+            return this;
+        }
+
+        /**
+         * Tamanho mínimo da entrada (em chars ou bytes) para usar o modo paralelo. O padrão é 64 KB.
+         */
+        public Builder parallelThreshold(int parallelThreshold) {
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        /**
+         * Liga o índice estrutural para entradas {@code String} e {@code byte[]}: antes da leitura, a entrada
+         * é varrida em blocos (com a Vector API quando o módulo {@code jdk.incubator.vector} está presente)
+         * para achar o início de cada token, e o parser só visita essas posições. Gasta memória com uma
+         * cópia da entrada e o índice, em troca de não olhar cada espaço e cada char de string.
+         * O modo paralelo sempre usa o índice.
+         */
+        public Builder structuralIndex(boolean structuralIndex) {
+            this.structuralIndex = structuralIndex;
+            return this;
+        }
+
+        /**
+         * Número de posições da tabela de chaves de objeto. Chaves repetidas (como as de um array de objetos)
+         * viram sempre a mesma String em vez de uma nova a cada objeto. A tabela não cresce: chaves novas
+         * substituem as antigas na colisão. {@code 0} desliga a tabela. O padrão é 1024.
+         */
+        public Builder symbolTableSize(int symbolTableSize) {
+            if (symbolTableSize < 0) {
+                throw new IllegalArgumentException("symbolTableSize must not be negative");
+            }
+            this.symbolTableSize = symbolTableSize;
+            return this;
+        }
+
+        /**
+         * Liga o cache de documentos para {@code parseSingle}, {@code parseList} e {@code parseTree} com
+         * {@code String} e {@code byte[]}: cada documento novo é lido para o formato compacto e guardado, e
+         * os repetidos são convertidos direto dele, sem lexer. A conversão segue o modo árvore
+         * ({@link BindingMode#TREE}) e o modo paralelo não é usado.
+         */
+        public Builder tapeCache(TapeCache tapeCache) {
+            this.tapeCache = Objects.requireNonNull(tapeCache);
+            return this;
+        }
+
+        public JsonParser build() {
+            return new JsonParser(this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dev.buskopan.parser;
+
+import dev.buskopan.internal.parser.PathQuery;
+
+/**
+ * Caminho compilado para {@link JsonParser#select(String, JsonPath)}, como {@code $.order.items[*].sku}.
+ * <p>
+ * Aceita {@code .campo}, {@code ['campo']}, {@code [n]}, {@code [*]} e {@code .*} a partir da raiz {@code $}.
+ * Um caminho compilado é imutável e pode ser reaproveitado em qualquer número de leituras.
+ */
+public final class JsonPath {
+
+    private final PathQuery query;
+
+    private JsonPath(PathQuery query) {
+        this.query = query;
+    }
+
+    /**
+     * @throws IllegalArgumentException se o caminho não puder ser interpretado
+     */
+    public static JsonPath compile(String path) {
+        return new JsonPath(PathQuery.compile(path));
+    }
+
+    PathQuery query() {
+        return query;
+    }
+
+    @Override
+    public String toString() {
+        return query.toString();
+    }
+}
@@ -0,0 +1,13 @@
+package dev.buskopan.parser;
+
+/**
+ * Tipo de um valor JSON em um {@link JsonNode}.
+ */
+public enum JsonType {
+    OBJECT,
+    ARRAY,
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    NULL
+}
@@ -0,0 +1,46 @@
+package dev.buskopan.parser;
+
+import dev.buskopan.internal.lexer.InputBuffer;
+
+import java.util.List;
+
+/**
+ * Sessão de leitura de um {@link JsonParser}, para caminhos sensíveis a latência que leem muitas
+ * mensagens de tamanho parecido.
+ * <p>
+ * A sessão guarda e reaproveita entre as chamadas o buffer de entrada, o cursor, o índice estrutural
+ * e o estado dos números e dos binders. Depois que o buffer chega ao tamanho das mensagens, uma leitura
+ * no binding direto só aloca o resultado (o objeto, suas Strings, Lists e objetos aninhados).
+ * O buffer só cresce: fica do tamanho da maior mensagem já lida.
+ * <p>
+ * Ao contrário do {@link JsonParser}, uma sessão não é thread-safe: use uma por thread, por exemplo
+ * em um {@link ThreadLocal}. O modo paralelo do parser não é usado pela sessão.
+ */
+public final class ParserSession {
+
+    private final JsonParser parser;
+    private final InputBuffer input = new InputBuffer();
+
+    ParserSession(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    public <T> T parseSingle(String json, Class<T> targetClass) {
+        return parser.parseSingle(input.cursor(json, parser.usesStructuralIndex()), targetClass);
+    }
+
+    /**
+     * Lê o JSON em UTF-8, decodificado para o buffer da sessão.
+     */
+    public <T> T parseSingle(byte[] json, Class<T> targetClass) {
+        return parser.parseSingle(input.cursor(json, parser.usesStructuralIndex()), targetClass);
+    }
+
+    public <T> List<T> parseList(String json, Class<T> targetClass) {
+        return parser.parseList(input.cursor(json, parser.usesStructuralIndex()), targetClass);
+    }
+
+    public <T> List<T> parseList(byte[] json, Class<T> targetClass) {
+        return parser.parseList(input.cursor(json, parser.usesStructuralIndex()), targetClass);
+    }
+}
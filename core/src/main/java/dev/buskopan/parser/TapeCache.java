@@ -0,0 +1,216 @@
+package dev.buskopan.parser;
+
+import dev.buskopan.internal.tape.Tape;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache de documentos já lidos, para JSON que é lido de novo várias vezes sem mudar (configuração,
+ * dados de referência). Ligado em um parser por {@link JsonParser.Builder#tapeCache(TapeCache)}.
+ * <p>
+ * Cada entrada guarda a árvore do documento no formato compacto de {@link JsonParser#parseTree(String)}.
+ * A chave é o hash do conteúdo, confirmado por comparação com a entrada guardada, então um
+ * documento repetido pula o lexer e é convertido direto da árvore. O cache é limitado pela memória
+ * aproximada das entradas (árvore e entrada original); as menos usadas recentemente saem primeiro.
+ * Pode ser gravado em um arquivo local com {@link #save(Path)} e lido de volta com {@link #load(Path, long)}.
+ * <p>
+ * Pode ser compartilhado por várias threads e vários parsers.
+ */
+public final class TapeCache {
+
+    // "TCAC" e a versão do arquivo
+    private static final int MAGIC = 0x54434143;
+    private static final int VERSION = 1;
+
+    private record Entry(Tape tape, long size) {
+    }
+
+    // byte[] não tem equals/hashCode por conteúdo
+    private record Bytes(byte[] value, int hash) {
+
+        Bytes(byte[] value) {
+            this(value, Arrays.hashCode(value));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Bytes bytes && hash == bytes.hash && Arrays.equals(value, bytes.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public TapeCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Cache com as entradas gravadas em {@code file} por {@link #save(Path)}. Sem o arquivo, começa vazio.
+     */
+    public static TapeCache load(Path file, long maxBytes) {
+        TapeCache cache = new TapeCache(maxBytes);
+        if (!Files.exists(file)) {
+            return cache;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("not a tape cache file: " + file);
+            }
+            // Nenhum tamanho lido pode passar do tamanho do arquivo
+            long size = Files.size(file);
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Object key;
+                if (in.readBoolean()) {
+                    byte[] value = new byte[keyLength(in, size)];
+                    in.readFully(value);
+                    key = new Bytes(value);
+                } else {
+                    char[] value = new char[keyLength(in, size / 2)];
+                    for (int k = 0; k < value.length; k++) {
+                        value[k] = in.readChar();
+                    }
+                    key = new String(value);
+                }
+                cache.store(key, Tape.read(in, size));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return cache;
+    }
+
+    private static int keyLength(DataInput in, long max) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > max) {
+            throw new IOException("corrupted tape cache file: invalid key length " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Grava todas as entradas em {@code file}, da menos para a mais usada recentemente.
+     */
+    public synchronized void save(Path file) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<Object, Entry> entry : entries.entrySet()) {
+                if (entry.getKey() instanceof Bytes key) {
+                    out.writeBoolean(true);
+                    out.writeInt(key.value().length);
+                    out.write(key.value());
+                } else {
+                    String key = (String) entry.getKey();
+                    out.writeBoolean(false);
+                    out.writeInt(key.length());
+                    out.writeChars(key);
+                }
+                entry.getValue().tape().write(out);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // Memória aproximada das entradas
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    synchronized Tape get(String json) {
+        return lookup(json);
+    }
+
+    synchronized Tape get(byte[] json) {
+        return lookup(new Bytes(json));
+    }
+
+    synchronized void put(String json, Tape tape) {
+        store(json, tape);
+    }
+
+    // A entrada é copiada: o chamador pode reaproveitar o array
+    synchronized void put(byte[] json, Tape tape) {
+        store(new Bytes(json.clone()), tape);
+    }
+
+    private Tape lookup(Object key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.tape();
+    }
+
+    private void store(Object key, Tape tape) {
+        long size = tape.sizeInBytes() + (key instanceof Bytes bytes ? bytes.value().length : 2L * ((String) key).length());
+        // Um documento maior que o cache inteiro não é guardado
+        if (size > maxBytes) {
+            return;
+        }
+
+        Entry previous = entries.put(key, new Entry(tape, size));
+        if (previous != null) {
+            bytes -= previous.size();
+        }
+        bytes += size;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (bytes > maxBytes) {
+            bytes -= eldest.next().size();
+            eldest.remove();
+            evictions++;
+        }
+    }
+}
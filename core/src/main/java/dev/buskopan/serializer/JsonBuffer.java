@@ -0,0 +1,58 @@
+package dev.buskopan.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Buffer de bytes reaproveitável para o {@link JsonSerializer}. Depois de um {@link #reset()} a próxima
+ * escrita usa o mesmo array, sem alocar de novo. Não é thread-safe: use um buffer por thread.
+ */
+public final class JsonBuffer {
+
+    private byte[] buf;
+    private int size;
+
+    public JsonBuffer() {
+        this(1024);
+    }
+
+    public JsonBuffer(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be positive");
+        }
+        this.buf = new byte[initialCapacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, size);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buf, 0, size);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buf, 0, size, StandardCharsets.UTF_8);
+    }
+
+    byte[] buffer() {
+        return buf;
+    }
+
+    // Chamado pelo serializador com o array (talvez maior) e a nova posição final
+    void update(byte[] buf, int size) {
+        this.buf = buf;
+        this.size = size;
+    }
+}
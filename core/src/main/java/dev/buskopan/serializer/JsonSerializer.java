@@ -0,0 +1,70 @@
+package dev.buskopan.serializer;
+
+import dev.buskopan.internal.serializer.JsonGenerator;
+import dev.buskopan.internal.serializer.ObjectWriter;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Converte objetos Java em JSON (UTF-8).
+ * <p>
+ * Usa os mesmos campos e nomes do {@link dev.buskopan.parser.JsonParser}, incluindo {@code JsonFieldAnnotation},
+ * então o JSON escrito pode ser lido de volta na mesma classe. Os getters e as chaves já codificadas de cada
+ * classe são calculados uma vez e reaproveitados. A instância não guarda estado e pode ser compartilhada entre threads.
+ */
+public final class JsonSerializer {
+
+    private static final JsonSerializer INSTANCE = new JsonSerializer();
+
+    private final ObjectWriter objectWriter;
+
+    private JsonSerializer() {
+        this.objectWriter = ObjectWriter.getInstance();
+    }
+
+    public static JsonSerializer getInstance() {
+        return INSTANCE;
+    }
+
+    public String toJson(Object value) {
+        JsonGenerator generator = new JsonGenerator(new byte[256], 0);
+        objectWriter.write(value, generator);
+        return new String(generator.buffer(), 0, generator.position(), StandardCharsets.UTF_8);
+    }
+
+    public byte[] toBytes(Object value) {
+        JsonGenerator generator = new JsonGenerator(new byte[256], 0);
+        objectWriter.write(value, generator);
+        return Arrays.copyOf(generator.buffer(), generator.position());
+    }
+
+    /**
+     * Acrescenta o JSON ao final do buffer.
+     */
+    public void write(Object value, JsonBuffer buffer) {
+        JsonGenerator generator = new JsonGenerator(buffer.buffer(), buffer.size());
+        objectWriter.write(value, generator);
+        buffer.update(generator.buffer(), generator.position());
+    }
+
+    /**
+     * Escreve em UTF-8 com um buffer de tamanho fixo. O stream não é fechado.
+     */
+    public void write(Object value, OutputStream out) {
+        JsonGenerator generator = new JsonGenerator(out);
+        objectWriter.write(value, generator);
+        generator.flush();
+    }
+
+    /**
+     * O writer não é fechado.
+     */
+    public void write(Object value, Writer writer) {
+        JsonGenerator generator = new JsonGenerator(writer);
+        objectWriter.write(value, generator);
+        generator.flush();
+    }
+}
@@ -0,0 +1,13 @@
+module dev.buskopan {
+    // Opcional: sem ele o índice estrutural usa a classificação escalar
+    requires static jdk.incubator.vector;
+
+    exports dev.buskopan.annotation;
+    exports dev.buskopan.binder;
+    exports dev.buskopan.exception;
+    exports dev.buskopan.parser;
+    exports dev.buskopan.serializer;
+
+    // Binders gerados pelo processador de anotações
+    uses dev.buskopan.binder.JsonBinder;
+}
\ No newline at end of file
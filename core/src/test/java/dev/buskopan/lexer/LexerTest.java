@@ -0,0 +1,338 @@
+package dev.buskopan.lexer;
+
+import dev.buskopan.exception.InvalidCharacterException;
+import dev.buskopan.internal.lexer.Lexer;
+import dev.buskopan.internal.lexer.MappedFileReader;
+import dev.buskopan.internal.lexer.StructuralIndex;
+import dev.buskopan.internal.lexer.SymbolTable;
+import dev.buskopan.internal.lexer.Token;
+import dev.buskopan.internal.lexer.TokenCursor;
+import dev.buskopan.internal.lexer.TypeToken;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LexerTest {
+    
+    private static Lexer lexer;
+    
+    @BeforeAll
+    public static void setup() {
+        if (lexer == null) {
+            lexer = Lexer.getInstance();
+        }
+    }
+
+    @Test
+    public void checkJsonTokens() {
+        String json = """
+                {
+                    "nome":"andré",
+                    "idade": 12
+                }
+                """;
+        List<Token> tokens = lexer.tokenize(json);
+        assertEquals(9, tokens.size());
+        assertEquals(TypeToken.INICIO_OBJETO, tokens.getFirst().getType());
+        assertEquals(TypeToken.FIM_OBJETO, tokens.getLast().getType());
+        assertEquals(TypeToken.TEXTO, tokens.get(1).getType());
+        assertEquals(TypeToken.DOIS_PONTO, tokens.get(2).getType());
+        assertEquals(TypeToken.TEXTO, tokens.get(3).getType());
+        assertEquals(TypeToken.VIRGULA, tokens.get(4).getType());
+        assertEquals(TypeToken.TEXTO, tokens.get(5).getType());
+        assertEquals(TypeToken.DOIS_PONTO, tokens.get(6).getType());
+        assertEquals(TypeToken.NUMERO, tokens.get(7).getType());
+
+    }
+
+    @Test
+    public void checkEmptyJson() {
+        String json = "";
+        List<Token> tokens = lexer.tokenize(json);
+        assertTrue(tokens.isEmpty());
+    }
+
+    @Test
+    public void checkInvalidJson() {
+        String json1 = """
+               {
+                    'nome':'andré',
+                    'idade': 12
+               }
+                """;
+        String json2 = """
+               {
+                    "nome":NOT TRUE,
+                    "idade": 12
+               }
+                """;
+        String json3 = """
+               {
+                    "nome";"andré",
+                    "idade; 12
+               }
+                """;
+        String json4 = """
+               {
+                    "nome":"andré"
+                    "idade": &12
+               }
+                """;
+
+        assertThrows(InvalidCharacterException.class, () -> lexer.tokenize(json1));
+        assertThrows(InvalidCharacterException.class, () -> lexer.tokenize(json2));
+        assertThrows(InvalidCharacterException.class, () -> lexer.tokenize(json3));
+        assertThrows(InvalidCharacterException.class, () -> lexer.tokenize(json4));
+    }
+
+    @Test
+    public void checkCursorReadsOnDemand() {
+        String json = """
+                {
+                    "nome": "andré",
+                    "idade": &12
+                }
+                """;
+        TokenCursor cursor = lexer.cursor(json);
+
+        assertEquals(TypeToken.INICIO_OBJETO, cursor.next().getType());
+        assertEquals("nome", cursor.next().getValue());
+        assertEquals(TypeToken.DOIS_PONTO, cursor.next().getType());
+        assertEquals("andré", cursor.next().getValue());
+        assertEquals(TypeToken.VIRGULA, cursor.next().getType());
+        assertEquals("idade", cursor.next().getValue());
+        assertEquals(TypeToken.DOIS_PONTO, cursor.next().getType());
+        assertThrows(InvalidCharacterException.class, cursor::next);
+    }
+
+    @Test
+    public void checkBufferedSourcesProduceSameTokens() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 2_000; i++) {
+            sb.append(i > 0 ? "," : "").append("{\"nome\": \"andré \\\"😀\\\" \\u00e9 ").append(i).append("\", \"idade\": ").append(i).append(".5, \"ativo\": false, \"pai\": null}");
+        }
+        String json = sb.append("]").toString();
+        List<Token> expected = lexer.tokenize(json);
+
+        // Reader que entrega poucos chars por vez, para cortar tokens na borda do buffer
+        Reader slowReader = new StringReader(json) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, 3));
+            }
+        };
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        assertSameTokens(expected, lexer.cursor(slowReader));
+        assertSameTokens(expected, lexer.cursor(json.toCharArray(), 0, json.length()));
+        assertSameTokens(expected, lexer.cursor(bytes));
+        assertSameTokens(expected, lexer.cursor(ByteBuffer.wrap(bytes)));
+        assertSameTokens(expected, lexer.cursor(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void checkMappedFileWindowsSplitCharacters(@TempDir Path dir) throws IOException {
+        String json = "{\"nome\": \"ação 😀 çãõ 😀 ü\", \"lista\": [1, 2.5, true, null, \"😀😀😀😀\"]}";
+        Path file = Files.writeString(dir.resolve("input.json"), json);
+        List<Token> expected = lexer.tokenize(json);
+
+        // Janelas de 17 bytes cortam os caracteres multibyte em vários pontos
+        try (TokenCursor cursor = lexer.cursor(new MappedFileReader(file, 17))) {
+            assertSameTokens(expected, cursor);
+        }
+        try (TokenCursor cursor = lexer.cursor(file)) {
+            assertSameTokens(expected, cursor);
+        }
+    }
+
+    private void assertSameTokens(List<Token> expected, TokenCursor cursor) {
+        for (Token token : expected) {
+            Token actual = cursor.next();
+            assertEquals(token.getType(), actual.getType());
+            assertEquals(token.getValue(), actual.getValue());
+        }
+        assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    public void checkStringEscapes() {
+        String json = "[\"aspas \\\"dentro\\\"\", \"barra \\\\ e \\/\", \"linha\\nnova\\ttab\", \"\\u00e9\\u0041\"]";
+        List<Token> tokens = lexer.tokenize(json);
+
+        assertEquals(9, tokens.size());
+        assertEquals("aspas \"dentro\"", tokens.get(1).getValue());
+        assertEquals("barra \\ e /", tokens.get(3).getValue());
+        assertEquals("linha\nnova\ttab", tokens.get(5).getValue());
+        assertEquals("éA", tokens.get(7).getValue());
+        assertThrows(InvalidCharacterException.class, () -> lexer.tokenize("[\"\\x\"]"));
+    }
+
+    @Test
+    public void checkTokenTypesWithoutValues() {
+        TokenCursor cursor = lexer.cursor("{\"nome\": \"andré\", \"lista\": [10, true, null]}");
+
+        assertEquals(TypeToken.INICIO_OBJETO, cursor.nextType());
+        assertEquals(TypeToken.TEXTO, cursor.nextType());
+        assertEquals("nome", cursor.text());
+        assertEquals(TypeToken.DOIS_PONTO, cursor.nextType());
+        assertEquals(TypeToken.TEXTO, cursor.nextType());
+        assertEquals(TypeToken.VIRGULA, cursor.nextType());
+        assertEquals(TypeToken.TEXTO, cursor.nextType());
+        assertEquals(TypeToken.DOIS_PONTO, cursor.nextType());
+        assertEquals(TypeToken.INICIO_ARRAY, cursor.nextType());
+        assertEquals(TypeToken.NUMERO, cursor.nextType());
+        assertEquals("10", cursor.text());
+        assertEquals(TypeToken.VIRGULA, cursor.nextType());
+        assertEquals(TypeToken.BOOLEANO, cursor.nextType());
+        assertEquals("true", cursor.text());
+        assertEquals(TypeToken.VIRGULA, cursor.nextType());
+        assertEquals(TypeToken.NULO, cursor.nextType());
+        assertEquals(TypeToken.FIM_ARRAY, cursor.nextType());
+        assertEquals(TypeToken.FIM_OBJETO, cursor.nextType());
+        assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    public void checkStructuralIndexMatchesScalar() {
+        // Os testes rodam com o módulo da Vector API, então o índice padrão é o vetorizado
+        assertTrue(StructuralIndex.isVectorized());
+
+        // Entradas aleatórias (nem sempre JSON válido) com barras e aspas cruzando as bordas dos blocos
+        String alphabet = "{}[]:,\"\\\\\\ \t\nab1.é😀";
+        Random random = new Random(42);
+        for (int n = 0; n < 200; n++) {
+            char[] chars = new char[random.nextInt(400)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            int from = chars.length > 0 ? random.nextInt(Math.min(chars.length, 70)) : 0;
+
+            assertArrayEquals(StructuralIndex.buildScalar(chars, from, chars.length).positions(),
+                    StructuralIndex.build(chars, from, chars.length).positions());
+        }
+    }
+
+    @Test
+    public void checkIndexedCursorProducesSameTokens() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 500; i++) {
+            sb.append(i > 0 ? "," : "").append("{\"nome\": \"andré \\\\\\\"[😀]\\\\\", \"idade\":").append(i).append(",\"lista\":[true,null,1.5]}");
+        }
+        String json = sb.append("]").toString();
+        assertSameTokens(lexer.tokenize(json), lexer.indexedCursor(json.toCharArray(), 0, json.length()));
+
+        // Espaços fora do ASCII e valores colados, que o índice não marca como início de token
+        for (String odd : List.of("[1\u2003, 2]", "[1true]", "[\u2003\"a\"\u2003]", "\"a\"1", "[\u20031]", "\u2003\u2003")) {
+            assertSameTokens(lexer.tokenize(odd), lexer.indexedCursor(odd.toCharArray(), 0, odd.length()));
+        }
+        TokenCursor invalid = lexer.indexedCursor("[1 @]".toCharArray(), 0, 5);
+        invalid.next();
+        invalid.next();
+        assertThrows(InvalidCharacterException.class, invalid::next);
+    }
+
+    @Test
+    public void checkNumbersDecodedFromBuffer() {
+        List<String> samples = new ArrayList<>(List.of("0", "-0", "1", "-12", "0.1", "-0.000123", "1e10", "1E-5", "2.5e+3",
+                "9007199254740993", "4.9e-324", "2.2250738585072014E-308", "1.7976931348623157e308", "1e400", "1e-400",
+                "123456789012345678901234567890", "0.30000000000000004", "7.2057594037927933e16"));
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            samples.add(String.valueOf(Double.longBitsToDouble(random.nextLong()) % 1e300));
+            samples.add(random.nextInt(1_000_000) + "." + random.nextInt(1_000_000) + "e" + (random.nextInt(700) - 350));
+            samples.add(String.valueOf(random.nextLong() >> random.nextInt(64)));
+        }
+
+        for (String sample : samples) {
+            if (sample.contains("N") || sample.contains("I")) {
+                continue;
+            }
+            TokenCursor cursor = lexer.cursor(sample);
+            assertEquals(TypeToken.NUMERO, cursor.nextType());
+            assertEquals(Double.parseDouble(sample), cursor.doubleValue(), sample);
+            assertEquals(Float.parseFloat(sample), cursor.floatValue(), sample);
+            if (cursor.isIntegral() && sample.length() < 19) {
+                assertEquals(Long.parseLong(sample), cursor.longValue(), sample);
+            }
+        }
+
+        TokenCursor tooBig = lexer.cursor("3000000000");
+        tooBig.nextType();
+        assertEquals(3_000_000_000L, tooBig.longValue());
+        assertThrows(NumberFormatException.class, tooBig::intValue);
+    }
+
+    @Test
+    public void checkSymbolTableReturnsCanonicalKeys() {
+        TokenCursor cursor = lexer.cursor("[{\"nome\": 1, \"n\\u006Fme\": 2}, {\"nome\": 3}]");
+        cursor.symbols(new SymbolTable(16));
+
+        List<String> keys = new ArrayList<>();
+        while (cursor.hasNext()) {
+            if (cursor.nextType() == TypeToken.TEXTO) {
+                keys.add(cursor.key());
+                assertEquals(cursor.text().hashCode(), cursor.textHash());
+                assertTrue(cursor.textEquals("nome"));
+            }
+        }
+
+        assertEquals(List.of("nome", "nome", "nome"), keys);
+        assertSame(keys.get(0), keys.get(2));
+
+        // Uma tabela pequena com muitas chaves diferentes só troca as entradas, sem perder nenhuma chave
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < 1_000; i++) {
+            sb.append(i > 0 ? "," : "").append("\"key").append(i).append("\": ").append(i);
+        }
+        TokenCursor many = lexer.cursor(sb.append("}").toString());
+        many.symbols(new SymbolTable(4));
+        int i = 0;
+        while (many.hasNext()) {
+            if (many.nextType() == TypeToken.TEXTO) {
+                assertEquals("key" + i++, many.key());
+            }
+        }
+        assertEquals(1_000, i);
+    }
+
+    @Test
+    public void checkSkipContainerIgnoresBracketsInStrings() {
+        String json = "[{\"a\": \"]}\\\\\", \"b\": [\"\\\"]\", {}]}, 42]";
+
+        // Reader que entrega um char por vez, para cortar strings e escapes na borda do buffer
+        Reader slowReader = new StringReader(json) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, 1));
+            }
+        };
+        for (TokenCursor cursor : List.of(lexer.cursor(slowReader), lexer.indexedCursor(json.toCharArray(), 0, json.length()))) {
+            assertEquals(TypeToken.INICIO_ARRAY, cursor.nextType());
+            assertEquals(TypeToken.INICIO_OBJETO, cursor.nextType());
+            assertTrue(cursor.skipContainer());
+            assertEquals(TypeToken.FIM_OBJETO, cursor.type());
+            assertEquals(TypeToken.VIRGULA, cursor.nextType());
+            assertEquals(TypeToken.NUMERO, cursor.nextType());
+            assertEquals("42", cursor.text());
+        }
+
+        TokenCursor unclosed = lexer.cursor("{\"a\": [1, 2}");
+        unclosed.nextType();
+        assertFalse(unclosed.skipContainer());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,1393 @@
+    package dev.buskopan.parser;
+
+    import dev.buskopan.annotation.JsonFieldAnnotation;
+    import dev.buskopan.exception.ConvertToObjectException;
+    import dev.buskopan.exception.InvalidCharacterException;
+    import dev.buskopan.exception.InvalidSyntaxException;
+    import dev.buskopan.internal.lexer.InputBuffer;
+    import dev.buskopan.internal.lexer.Lexer;
+    import dev.buskopan.internal.lexer.TokenCursor;
+    import dev.buskopan.internal.parser.RuntimeBinders;
+    import dev.buskopan.internal.parser.ToObject;
+    import dev.buskopan.serializer.JsonBuffer;
+    import dev.buskopan.serializer.JsonSerializer;
+    import org.junit.jupiter.api.BeforeAll;
+    import org.junit.jupiter.api.Test;
+    import org.junit.jupiter.api.io.TempDir;
+
+    import java.io.ByteArrayInputStream;
+    import java.io.ByteArrayOutputStream;
+    import java.io.IOException;
+    import java.io.InputStream;
+    import java.io.StringReader;
+    import java.io.StringWriter;
+    import java.io.UncheckedIOException;
+    import java.nio.ByteBuffer;
+    import java.nio.charset.StandardCharsets;
+    import java.nio.file.Files;
+    import java.nio.file.Path;
+    import java.util.ArrayList;
+    import java.util.Arrays;
+    import java.util.Iterator;
+    import java.util.List;
+    import java.util.Map;
+    import java.util.Random;
+    import java.util.concurrent.ExecutorService;
+    import java.util.concurrent.Executors;
+    import java.util.concurrent.ForkJoinPool;
+    import java.util.concurrent.Future;
+    import java.util.stream.Stream;
+
+    import static org.junit.jupiter.api.Assertions.*;
+
+    class JsonParserTest {
+
+        private static JsonParser jsonParser;
+        private static Lexer lexer;
+        private static ToObject toObject;
+
+        @BeforeAll
+        public static void setup() {
+
+            if (lexer == null ) {
+                lexer = Lexer.getInstance();
+            }
+
+            if (toObject == null) {
+                toObject = ToObject.getInstance();
+            }
+
+            if (jsonParser == null) {
+                jsonParser = JsonParser.getInstance();
+            }
+        }
+
+        public static class Address {
+            private String estado;
+            private String cidade;
+
+            public Address() {
+            }
+
+            public String getEstado() {
+                return estado;
+            }
+
+            public void setEstado(String estado) {
+                this.estado = estado;
+            }
+
+            public String getCidade() {
+                return cidade;
+            }
+
+            public void setCidade(String cidade) {
+                this.cidade = cidade;
+            }
+        }
+
+        public static class Order {
+            private long id;
+            private List<Product> products;
+            private List<Integer> numbers;
+
+            public Order() {
+            }
+
+            public List<Integer> getNumbers() {
+                return numbers;
+            }
+
+            public void setNumbers(List<Integer> numbers) {
+                this.numbers = numbers;
+            }
+
+            public long getId() {
+                return id;
+            }
+
+            public void setId(long id) {
+                this.id = id;
+            }
+
+            public List<Product> getProducts() {
+                return products;
+            }
+
+            public void setProducts(List<Product> products) {
+                this.products = products;
+            }
+
+            @Override
+            public String toString() {
+                return "Order{" +
+                        "id=" + id +
+                        ", products=" + products +
+                        '}';
+            }
+        }
+
+        public static class User {
+            private String name;
+            private String email;
+            private Address address;
+            private int age;
+
+            public User() {
+            }
+
+            public int getAge() {
+                return age;
+            }
+
+            public void setAge(int age) {
+                this.age = age;
+            }
+
+            public Address getAddress() {
+                return address;
+            }
+
+            public void setAddress(Address address) {
+                this.address = address;
+            }
+
+            public String getName() {
+                return name;
+            }
+
+            public void setName(String name) {
+                this.name = name;
+            }
+
+            public String getEmail() {
+                return email;
+            }
+
+            public void setEmail(String email) {
+                this.email = email;
+            }
+        }
+
+        public static class Product {
+            private Long id;
+            private String name;
+
+            @JsonFieldAnnotation(value = "custom_field")
+            private String reference;
+
+            @JsonFieldAnnotation(value = "date", composite = {"day", "month"})
+            private String bought_at;
+
+            public Product() {
+            }
+
+            public String getBought_at() {
+                return bought_at;
+            }
+
+            public void setBought_at(String bought_at) {
+                this.bought_at = bought_at;
+            }
+
+            public String getReference() {
+                return reference;
+            }
+
+            public void setReference(String reference) {
+                this.reference = reference;
+            }
+
+            public Long getId() {
+                return id;
+            }
+
+            public void setId(Long id) {
+                this.id = id;
+            }
+
+            public String getName() {
+                return name;
+            }
+
+            public void setName(String name) {
+                this.name = name;
+            }
+        }
+
+        @Test
+        public void checkSimpleValidJson() {
+
+            String json = """
+                    {
+                    "name": "teste",
+                    "email": "email@email.com",
+                    "age": 20
+                    }
+                    """;
+
+            User user = jsonParser.parseSingle(json, User.class);
+            assertNotNull(user.getEmail());
+            assertNotNull(user.getName());
+            assertEquals(20, user.getAge());
+            assertEquals("teste", user.getName());
+            assertEquals("email@email.com", user.getEmail());
+        }
+
+        @Test
+        public void checkNestedValidJson() {
+
+            String json = """
+                    {
+                    "name": "teste",
+                    "email": "email@email.com",
+                    "age": 20,
+                    "address": {"estado": "RJ", "cidade": "Rio de Janeiro"}
+                    }
+                    """;
+
+            User user = jsonParser.parseSingle(json, User.class);
+            assertNotNull(user.getEmail());
+            assertNotNull(user.getName());
+            assertNotNull(user.getAddress());
+            assertEquals("teste", user.getName());
+            assertEquals("email@email.com", user.getEmail());
+            assertEquals("RJ", user.getAddress().getEstado());
+            assertEquals("Rio de Janeiro", user.getAddress().getCidade());
+        }
+
+        @Test
+        public void checkValidJsonWithArray() {
+
+            String json = """
+                    {
+                    "id": 64747457,
+                    "numbers": [1,2,3,4,5]
+                    }
+                    """;
+
+            Order order = jsonParser.parseSingle(json, Order.class);
+            assertEquals(64747457, order.getId());
+            assertArrayEquals(new Integer[]{1, 2, 3, 4, 5}, order.getNumbers().toArray());
+        }
+
+        @Test
+        public void checkValidJsonWithObjectArray() {
+
+            String json = """
+                    {
+                    "id": 64747457,
+                    "products": [
+                        {
+                            "id": 12312,
+                            "name": "teste"
+                        }
+                    ]
+                    }
+                    """;
+
+            Order order = jsonParser.parseSingle(json, Order.class);
+            assertEquals(64747457, order.getId());
+            assertEquals(12312, order.getProducts().getFirst().getId());
+            assertEquals("teste", order.getProducts().getFirst().getName());
+        }
+
+        @Test
+        public void checkValidArrayJson() {
+
+            String json = """
+                    [
+                        {
+                            "id": 64747457,
+                            "products": [
+                                {
+                                    "id": 12312,
+                                    "name": "teste"
+                                }
+                            ]
+                        }
+                    ]
+                    """;
+
+            List<Order> order = jsonParser.parseList(json, Order.class);
+            assertEquals(64747457, order.getFirst().getId());
+            assertEquals(12312, order.getFirst().getProducts().getFirst().getId());
+            assertEquals("teste", order.getFirst().getProducts().getFirst().getName());
+        }
+
+
+        @Test
+        public void checkEmptyJson() {
+
+            String json = """
+                    {}
+                    """;
+
+            assertThrows(ConvertToObjectException.class, () -> jsonParser.parseSingle(json, User.class));
+        }
+
+        @Test
+        public void checkInvalidJson() {
+            String json = """
+                    {
+                    "name": "André"
+                    "age": 20
+                    }
+                    """;
+
+            assertThrows(InvalidSyntaxException.class, () -> jsonParser.parseSingle(json, User.class));
+        }
+
+        @Test
+        public void checkAnnotationJsonField() {
+            String json = """
+                    {
+                                    "id": 12312,
+                                    "name": "teste",
+                                    "custom_field": "3232d3f3j"
+                    }
+                    """;
+
+            Product product = jsonParser.parseSingle(json, Product.class);
+            assertEquals("3232d3f3j", product.getReference());
+        }
+
+        @Test
+        public void checkAnnotationJsonFieldWithComposite() {
+            String json = """
+                    {
+                                    "id": 12312,
+                                    "name": "teste",
+                                    "date": {
+                                        "day": 1,
+                                        "month": "February"
+                                    }
+                    }
+                    """;
+
+            Product product = jsonParser.parseSingle(json, Product.class);
+            assertEquals("1 February", product.getBought_at());
+        }
+
+        @Test
+        public void checkJsonWithDifferentTypeFromObject() {
+            String json = """
+                    {
+                        "name": "user",
+                        "email": "email@mail.com",
+                        "age": 12.5
+                    }
+                    """;
+
+            assertThrows(ConvertToObjectException.class, () -> jsonParser.parseSingle(json, User.class));
+        }
+
+        @Test
+        public void checkJsonWithEmptyArray() {
+            String json = """
+                    {
+                        "id": 12312,
+                        "products": []
+                    }
+                    """;
+            Order order = jsonParser.parseSingle(json, Order.class);
+            assertTrue(order.products.isEmpty());
+            assertEquals(12312, order.getId());
+        }
+
+        @Test
+        public void checkJsonWithMixedArrays() {
+            String json = """
+            {
+                "id": 12345,
+                "products": [
+                    {"id": 1, "name": "item1"},
+                    {"id": 2, "name": "item2"}
+                ],
+                "numbers": [1, 2, 3]
+            }
+            """;
+
+            Order order = jsonParser.parseSingle(json, Order.class);
+            assertEquals(12345, order.getId());
+            assertEquals(2, order.getProducts().size());
+            assertEquals(3, order.getNumbers().size());
+            assertEquals(1, order.getNumbers().get(0));
+            assertEquals("item1", order.getProducts().get(0).getName());
+        }
+
+        @Test
+        public void checkEmptyJsonArray() {
+            String json = "[]";
+
+            List<Order> orders = jsonParser.parseList(json, Order.class);
+            assertTrue(orders.isEmpty());
+        }
+
+        @Test
+        public void checkListOfAnnotatedObjects() {
+            String json = """
+                    [
+                        {"id": 1, "name": "item1", "custom_field": "a1", "date": {"day": 1, "month": "March"}},
+                        {"id": 2, "name": "item2", "custom_field": "b2", "date": {"day": 2, "month": "April"}},
+                        {"id": 3, "name": "item3", "custom_field": "c3"}
+                    ]
+                    """;
+
+            List<Product> products = jsonParser.parseList(json, Product.class);
+            assertEquals(3, products.size());
+            assertEquals("b2", products.get(1).getReference());
+            assertEquals("2 April", products.get(1).getBought_at());
+            assertEquals(3L, products.get(2).getId());
+            assertNull(products.get(2).getBought_at());
+        }
+
+        @Test
+        public void checkConcurrentParsingWithSharedInstance() throws Exception {
+            String json = """
+                    {
+                    "id": %d,
+                    "products": [
+                        {"id": %d, "name": "item-%d", "custom_field": "ref-%d", "date": {"day": %d, "month": "May"}}
+                    ],
+                    "numbers": [%d, %d]
+                    }
+                    """;
+            int tasks = 2_000;
+
+            for (ExecutorService executor : List.of(Executors.newFixedThreadPool(16), Executors.newVirtualThreadPerTaskExecutor())) {
+                try (executor) {
+                    List<Future<Boolean>> results = new ArrayList<>();
+                    for (int i = 0; i < tasks; i++) {
+                        int n = i;
+                        results.add(executor.submit(() -> {
+                            Order order = JsonParser.getInstance().parseSingle(json.formatted(n, n, n, n, n, n, n + 1), Order.class);
+                            Product product = order.getProducts().getFirst();
+                            return order.getId() == n
+                                    && product.getId() == n
+                                    && ("item-" + n).equals(product.getName())
+                                    && ("ref-" + n).equals(product.getReference())
+                                    && (n + " May").equals(product.getBought_at())
+                                    && order.getNumbers().equals(List.of(n, n + 1));
+                        }));
+                    }
+
+                    for (Future<Boolean> result : results) {
+                        assertTrue(result.get());
+                    }
+                }
+            }
+        }
+
+        @Test
+        public void checkDirectAndTreeBindingAgree() {
+            String json = """
+                    [
+                        {
+                            "id": 1,
+                            "ignored": {"deep": [1, 2, {"x": null}], "flag": true},
+                            "products": [
+                                {"id": 7, "name": "item7", "custom_field": "r7", "date": {"day": 3, "month": "June"}, "extra": [[]]}
+                            ],
+                            "numbers": [4, 5]
+                        },
+                        {"id": 2, "unknown": "value"}
+                    ]
+                    """;
+            JsonParser treeParser = JsonParser.builder().bindingMode(BindingMode.TREE).build();
+
+            List<Order> direct = jsonParser.parseList(json, Order.class);
+            List<Order> tree = treeParser.parseList(json, Order.class);
+
+            assertEquals(tree.size(), direct.size());
+            for (int i = 0; i < tree.size(); i++) {
+                assertEquals(tree.get(i).getId(), direct.get(i).getId());
+                assertEquals(tree.get(i).getNumbers(), direct.get(i).getNumbers());
+            }
+            Product product = direct.getFirst().getProducts().getFirst();
+            assertEquals("item7", product.getName());
+            assertEquals("r7", product.getReference());
+            assertEquals("3 June", product.getBought_at());
+            assertNull(direct.get(1).getProducts());
+
+            // Perto do meio entre dois floats: decimal -> double -> float arredondaria para o vizinho de cima
+            String ratio = "1.00000017881393432617187499";
+            String reading = "{\"count\": 1, \"total\": 2, \"average\": 3, \"ratio\": " + ratio + "}";
+            JsonParser cached = JsonParser.builder().tapeCache(new TapeCache(1 << 20)).build();
+            for (JsonParser parser : new JsonParser[]{jsonParser, treeParser, cached, cached}) {
+                assertEquals(Float.parseFloat(ratio), parser.parseSingle(reading, Reading.class).ratio);
+            }
+        }
+
+        @Test
+        public void checkDirectBindingValidatesSkippedValues() {
+            String json = """
+                    {
+                    "name": "teste",
+                    "ignored": {"a": 1 "b": 2},
+                    "age": 20
+                    }
+                    """;
+
+            assertThrows(InvalidSyntaxException.class, () -> jsonParser.parseSingle(json, User.class));
+
+            // Números fora da gramática do JSON, mesmo em chaves puladas, falham em todos os modos
+            JsonParser indexed = JsonParser.builder().structuralIndex(true).build();
+            JsonParser tree = JsonParser.builder().bindingMode(BindingMode.TREE).build();
+            for (String number : new String[]{"--e+", "1-2", "1.2.3", "01", "1.", "-", "2e", ".5"}) {
+                String invalid = "{\"name\": \"x\", \"age\": 1, \"zzz\": " + number + "}";
+                assertThrows(InvalidCharacterException.class, () -> jsonParser.parseSingle(invalid, User.class), number);
+                assertThrows(InvalidCharacterException.class, () -> indexed.parseSingle(invalid, User.class), number);
+                assertThrows(InvalidCharacterException.class, () -> tree.parseSingle(invalid, User.class), number);
+                assertThrows(InvalidCharacterException.class, () -> jsonParser.parseTree(invalid), number);
+                assertThrows(InvalidCharacterException.class, () -> jsonParser.parseDocument(invalid).root().get("zzz").value(), number);
+                assertThrows(InvalidCharacterException.class, () -> jsonParser.select(invalid, JsonPath.compile("$.zzz")), number);
+            }
+            assertEquals(List.of(-50.0, 0L), jsonParser.parseTree("[-0.5e+2, 0]"));
+        }
+
+        @Test
+        public void checkParsingFromBinarySources() {
+            String json = """
+                    {
+                    "name": "José 😀",
+                    "email": "jose@email.com",
+                    "age": 44,
+                    "address": {"estado": "SP", "cidade": "São Paulo"}
+                    }
+                    """;
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+            List<User> users = List.of(
+                    jsonParser.parseSingle(new ByteArrayInputStream(bytes), User.class),
+                    jsonParser.parseSingle(new StringReader(json), User.class),
+                    jsonParser.parseSingle(bytes, User.class),
+                    jsonParser.parseSingle(ByteBuffer.wrap(bytes), User.class));
+
+            for (User user : users) {
+                assertEquals("José 😀", user.getName());
+                assertEquals(44, user.getAge());
+                assertEquals("São Paulo", user.getAddress().getCidade());
+            }
+
+            List<Order> orders = jsonParser.parseList("[{\"id\": 1}, {\"id\": 2}]".getBytes(StandardCharsets.UTF_8), Order.class);
+            assertEquals(2, orders.get(1).getId());
+        }
+
+        @Test
+        public void checkStreamReadsElementsOnDemand() {
+            String head = "[{\"id\": 1, \"numbers\": [1]}, 42, {\"id\": 2},";
+            byte[] bytes = (head + " {\"id\": 3} ]").getBytes(StandardCharsets.UTF_8);
+            // Falha se o parser tentar ler além do necessário para os dois primeiros elementos
+            InputStream truncated = new ByteArrayInputStream(head.getBytes(StandardCharsets.UTF_8)) {
+                @Override
+                public synchronized int read(byte[] b, int off, int len) {
+                    int read = super.read(b, off, Math.min(len, 4));
+                    if (read < 0) {
+                        throw new IllegalStateException("read past the requested elements");
+                    }
+                    return read;
+                }
+            };
+
+            Iterator<Order> orders = jsonParser.stream(truncated, Order.class).iterator();
+            assertEquals(1, orders.next().getId());
+            assertEquals(2, orders.next().getId());
+
+            assertEquals(List.of(1L, 2L, 3L), jsonParser.stream(bytes, Order.class).map(Order::getId).toList());
+            assertEquals(List.of(1L, 2L, 3L), JsonParser.builder().bindingMode(BindingMode.TREE).build()
+                    .stream(new String(bytes, StandardCharsets.UTF_8), Order.class).map(Order::getId).toList());
+            assertThrows(InvalidSyntaxException.class, () -> jsonParser.stream("{\"id\": 1}", Order.class).toList());
+        }
+
+        @Test
+        public void checkParsingFromMappedFile(@TempDir Path dir) throws Exception {
+            Path single = Files.writeString(dir.resolve("user.json"), """
+                    {"name": "Zé", "email": "ze@email.com", "age": 50}
+                    """);
+            Path list = Files.writeString(dir.resolve("orders.json"), "[{\"id\": 10}, {\"id\": 20}, {\"id\": 30}]");
+
+            assertEquals("Zé", jsonParser.parseSingle(single, User.class).getName());
+            assertEquals(3, jsonParser.parseList(list, Order.class).size());
+            try (Stream<Order> orders = jsonParser.stream(list, Order.class)) {
+                assertEquals(60, orders.mapToLong(Order::getId).sum());
+            }
+        }
+
+        @Test
+        public void checkParallelListKeepsOrder() {
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < 1_000; i++) {
+                sb.append(i > 0 ? ",\n" : "").append("{\"id\": ").append(i)
+                        .append(", \"products\": [{\"id\": ").append(i).append(", \"name\": \"a,b]}\"}]")
+                        .append(", \"numbers\": [").append(i).append("]}");
+            }
+            String json = sb.append(", 42]").toString();
+            ForkJoinPool pool = new ForkJoinPool(4);
+
+            try {
+                for (BindingMode mode : BindingMode.values()) {
+                    JsonParser parallel = JsonParser.builder().bindingMode(mode).parallel(pool).parallelThreshold(0).build();
+                    List<Order> orders = parallel.parseList(json, Order.class);
+
+                    assertEquals(1_000, orders.size());
+                    for (int i = 0; i < orders.size(); i++) {
+                        assertEquals(i, orders.get(i).getId());
+                        assertEquals("a,b]}", orders.get(i).getProducts().getFirst().getName());
+                    }
+                    assertEquals(orders.size(), parallel.parseList(json.getBytes(StandardCharsets.UTF_8), Order.class).size());
+                }
+
+                JsonParser parallel = JsonParser.builder().parallel(pool).parallelThreshold(0).build();
+                assertTrue(parallel.parseList("[]", Order.class).isEmpty());
+                assertEquals(1, parallel.parseList("[{\"id\": 1},]", Order.class).size());
+                assertThrows(InvalidSyntaxException.class, () -> parallel.parseList("[{\"id\": 1},, {\"id\": 2}]", Order.class));
+                assertThrows(InvalidSyntaxException.class, () -> parallel.parseList("[{\"id\": 1} {\"id\": 2}]", Order.class));
+                assertThrows(InvalidSyntaxException.class, () -> parallel.parseList("[{\"id\": 1}", Order.class));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        public void checkStructuralIndexParsing() {
+            JsonParser indexed = JsonParser.builder().structuralIndex(true).build();
+            String json = "[{\"name\": \"andré \\\"[x]\\\"\", \"email\": \"a@b.c\", \"age\": 30,\n \"address\": {\"estado\": \"SP\", \"cidade\": \"São Paulo\"}}]";
+
+            List<User> users = indexed.parseList(json, User.class);
+            assertEquals(1, users.size());
+            assertEquals("andré \"[x]\"", users.getFirst().getName());
+            assertEquals(30, users.getFirst().getAge());
+            assertEquals("São Paulo", users.getFirst().getAddress().getCidade());
+
+            User user = indexed.parseSingle(json.substring(1, json.length() - 1).getBytes(StandardCharsets.UTF_8), User.class);
+            assertEquals("a@b.c", user.getEmail());
+            assertThrows(InvalidSyntaxException.class, () -> indexed.parseSingle("{\"name\": \"a\" \"age\": 1}", User.class));
+        }
+
+        public static class Reading {
+            private int count;
+            private long total;
+            private double average;
+            private float ratio;
+            private Double peak;
+            private List<Long> samples;
+
+            public Reading() {
+            }
+        }
+
+        @Test
+        public void checkPrimitiveNumberFields() {
+            String json = "{\"count\": -3, \"total\": 9007199254740993, \"average\": 1.5e-3, \"ratio\": 0.25, \"peak\": -2E2, \"samples\": [1, -2, 30]}";
+
+            for (BindingMode mode : BindingMode.values()) {
+                Reading reading = JsonParser.builder().bindingMode(mode).build().parseSingle(json, Reading.class);
+
+                assertEquals(-3, reading.count);
+                assertEquals(9007199254740993L, reading.total);
+                assertEquals(0.0015, reading.average);
+                assertEquals(0.25f, reading.ratio);
+                assertEquals(-200.0, reading.peak);
+                assertEquals(List.of(1L, -2L, 30L), reading.samples);
+            }
+
+            assertThrows(ConvertToObjectException.class, () -> jsonParser.parseSingle("{\"count\": 1.5}", Reading.class));
+            assertThrows(ConvertToObjectException.class, () -> jsonParser.parseSingle("{\"count\": 3000000000}", Reading.class));
+        }
+
+        @Test
+        public void checkKeyLookupWithSymbolTable() {
+            JsonParser treeParser = JsonParser.builder().bindingMode(BindingMode.TREE).build();
+            String json = "[{\"id\": 1, \"numbers\": [1]}, {\"id\": 2, \"numbers\": [2]}]";
+
+            List<Order> orders = treeParser.parseList(json, Order.class);
+            assertEquals(2, orders.get(1).getId());
+
+            // Chaves escapadas são comparadas já decodificadas
+            User user = jsonParser.parseSingle("{\"n\\u0061me\": \"teste\", \"age\": 3}", User.class);
+            assertEquals("teste", user.getName());
+            assertEquals(3, user.getAge());
+
+            JsonParser withoutTable = JsonParser.builder().symbolTableSize(0).build();
+            assertEquals(1, withoutTable.parseList(json, Order.class).getFirst().getId());
+            assertThrows(IllegalArgumentException.class, () -> JsonParser.builder().symbolTableSize(-1));
+        }
+
+        @Test
+        public void checkLazyDocument() {
+            StringBuilder sb = new StringBuilder("{\"orders\": [");
+            for (int i = 0; i < 100; i++) {
+                sb.append(i > 0 ? "," : "").append("{\"id\": ").append(i).append(", \"note\": \"a,b}\\\"c\", \"numbers\": [").append(i).append("]}");
+            }
+            String json = sb.append("], \"total\": 2.5e1, \"ok\": true, \"missing\": null, \"name\": \"caf\\u00e9\"}").toString();
+
+            JsonDocument document = jsonParser.parseDocument(json);
+            JsonNode root = document.root();
+
+            assertEquals(JsonType.OBJECT, root.type());
+            assertEquals(List.of("orders", "total", "ok", "missing", "name"), root.keys());
+            assertEquals(25.0, root.get("total").asDouble());
+            assertTrue(root.get("ok").asBoolean());
+            assertTrue(root.get("missing").isNull());
+            assertEquals("café", root.get("name").asText());
+            assertNull(root.get("absent"));
+
+            JsonNode orders = root.get("orders");
+            assertEquals(100, orders.size());
+            assertEquals(42, orders.get(42).get("id").asInt());
+            assertEquals("a,b}\"c", orders.get(42).get("note").asText());
+            assertEquals(List.of(7L), orders.get(7).get("numbers").value());
+            assertEquals(99, orders.get(99).as(Order.class).getId());
+            assertEquals("[99]", orders.get(99).get("numbers").toString());
+
+            assertThrows(ConvertToObjectException.class, () -> root.get("name").asLong());
+            assertThrows(IndexOutOfBoundsException.class, () -> orders.get(100));
+            assertThrows(InvalidSyntaxException.class, () -> jsonParser.parseDocument("{\"a\": [1, 2}"));
+            assertThrows(InvalidSyntaxException.class, () -> jsonParser.parseDocument("[1 2]").root().size());
+            assertThrows(InvalidSyntaxException.class, () -> jsonParser.parseDocument("  "));
+        }
+
+        @Test
+        public void checkSelectByPath() {
+            String json = """
+                    {
+                        "meta": {"tags": ["a", "}]", {"deep": [[["x"]]]}], "note": "[{\\"sku\\": 0}]"},
+                        "order": {
+                            "id": 7,
+                            "items": [
+                                {"sku": "A-1", "qty": 2, "extra": {"sku": "ignored"}},
+                                {"qty": 1},
+                                {"sku": "B-2", "qty": 5}
+                            ]
+                        }
+                    }
+                    """;
+
+            assertEquals(List.of("A-1", "B-2"), jsonParser.select(json, JsonPath.compile("$.order.items[*].sku")));
+            assertEquals(List.of(5L), jsonParser.select(json, JsonPath.compile("$.order.items[2].qty")));
+            assertEquals(List.of(7L), jsonParser.select(json, JsonPath.compile("$['order'][\"id\"]")));
+            assertEquals(List.of(List.of(List.of("x"))), jsonParser.select(json, JsonPath.compile("$.meta.tags[2].deep[0]")));
+            assertEquals(List.of(2, 1, 5), jsonParser.select(json, JsonPath.compile("$.order.items[*].qty"), Integer.class));
+            assertTrue(jsonParser.select(json, JsonPath.compile("$.order.missing[*]")).isEmpty());
+
+            List<Product> products = jsonParser.select(new StringReader(json), JsonPath.compile("$.order.items[0].extra"), Product.class);
+            assertNull(products.getFirst().getName());
+
+            assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("order.items"));
+            assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$..sku"));
+            assertThrows(IllegalArgumentException.class, () -> JsonPath.compile("$.items[x]"));
+            assertThrows(InvalidSyntaxException.class, () -> jsonParser.select("{\"a\": {\"b\": [1, 2}", JsonPath.compile("$.c")));
+        }
+
+        @Test
+        public void checkSerializerRoundTrip() throws Exception {
+            JsonSerializer serializer = JsonSerializer.getInstance();
+
+            Product product = new Product();
+            product.setId(5L);
+            product.setName("café \"quente\"\n\t\u0001 😀");
+            product.setReference("ref");
+            product.setBought_at("12 maio");
+
+            Order order = new Order();
+            order.setId(Long.MAX_VALUE);
+            order.setProducts(List.of(product, new Product()));
+            order.setNumbers(List.of(1, -2));
+
+            String json = serializer.toJson(order);
+            assertTrue(json.contains("\"custom_field\":\"ref\""));
+            assertTrue(json.contains("\"date\":{\"day\":\"12\",\"month\":\"maio\"}"));
+            assertTrue(json.contains("\\\"quente\\\"\\n\\t\\u0001"));
+
+            Order back = jsonParser.parseSingle(json, Order.class);
+            assertEquals(Long.MAX_VALUE, back.getId());
+            assertEquals(List.of(1, -2), back.getNumbers());
+            assertEquals(product.getName(), back.getProducts().getFirst().getName());
+            assertEquals("ref", back.getProducts().getFirst().getReference());
+            assertEquals("12 maio", back.getProducts().getFirst().getBought_at());
+            assertNull(back.getProducts().get(1).getName());
+
+            Reading reading = jsonParser.parseSingle("{\"count\": -3, \"total\": -9007199254740993, \"average\": 1.5e-3, \"ratio\": 0.1, \"peak\": 2E2}", Reading.class);
+            Reading readingBack = jsonParser.parseSingle(serializer.toBytes(reading), Reading.class);
+            assertEquals(-3, readingBack.count);
+            assertEquals(-9007199254740993L, readingBack.total);
+            assertEquals(0.0015, readingBack.average);
+            assertEquals(0.1f, readingBack.ratio);
+            assertEquals(200.0, readingBack.peak);
+            assertNull(readingBack.samples);
+
+            // Buffer reaproveitado, stream e writer geram os mesmos bytes
+            JsonBuffer buffer = new JsonBuffer(8);
+            serializer.write(order, buffer);
+            assertEquals(json, buffer.toString());
+            buffer.reset();
+            serializer.write(List.of(1.0, -0.0, 1e-7, 1e21), buffer);
+            assertEquals("[1.0,-0.0,1.0E-7,1.0E21]", buffer.toString());
+
+            StringBuilder big = new StringBuilder();
+            for (int i = 0; i < 5000; i++) {
+                big.append("é😀");
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            serializer.write(List.of(big.toString(), order), out);
+            StringWriter writer = new StringWriter();
+            serializer.write(List.of(big.toString(), order), writer);
+            assertEquals(serializer.toJson(List.of(big.toString(), order)), out.toString(StandardCharsets.UTF_8));
+            assertEquals(out.toString(StandardCharsets.UTF_8), writer.toString());
+            List<Object> escaped = List.of("\u0001\"\\\n\uD800x\uDC00ção", Long.MIN_VALUE, -12, 1.5f, Map.of("k\té", false));
+            StringWriter escapedWriter = new StringWriter();
+            serializer.write(escaped, escapedWriter);
+            assertEquals(serializer.toJson(escaped), escapedWriter.toString());
+
+            assertEquals("{\"a\":[true,null,\"x\"]}", serializer.toJson(Map.of("a", Arrays.asList(true, null, 'x'))));
+            assertThrows(ConvertToObjectException.class, () -> serializer.toJson(List.of(Double.NaN)));
+        }
+
+        public static class Frozen {
+            private final String name = "fixo";
+            private int age;
+
+            public Frozen() {
+            }
+        }
+
+        public static class Tagged {
+            public String[] tags = {"default"};
+            public int count = 5;
+            public Address address;
+
+            public Tagged() {
+            }
+        }
+
+        @Test
+        public void checkRuntimeBinders() {
+            // As classes de teste têm campos privados, List, composite e primitivos: todas ganham um binder
+            for (Class<?> type : List.of(User.class, Address.class, Order.class, Product.class, Reading.class)) {
+                assertSame(type, RuntimeBinders.define(type).type());
+            }
+            assertThrows(ConvertToObjectException.class, () -> RuntimeBinders.define(Frozen.class));
+
+            String json = """
+                    [{"id": 9007199254740993, "numbers": [1, 2], "ignored": {"a": [1, {"b": null}]},
+                      "products": [{"id": 1, "name": "p\\u00e3o", "custom_field": "r", "date": {"day": "1", "month": "jan"}}, {"name": null}]},
+                     {"id": 2, "products": [], "numbers": null}]""";
+
+            JsonParser generated = JsonParser.builder().binderMode(BinderMode.GENERATED).build();
+            JsonParser reflective = JsonParser.builder().binderMode(BinderMode.REFLECTION).build();
+            List<Order> fromBinder = generated.parseList(json, Order.class);
+            List<Order> fromReflection = reflective.parseList(json, Order.class);
+
+            for (List<Order> orders : List.of(fromBinder, fromReflection)) {
+                assertEquals(9007199254740993L, orders.getFirst().getId());
+                assertEquals(List.of(1, 2), orders.getFirst().getNumbers());
+                Product product = orders.getFirst().getProducts().getFirst();
+                assertEquals("pão", product.getName());
+                assertEquals("r", product.getReference());
+                assertEquals("1 jan", product.getBought_at());
+                assertNull(orders.getFirst().getProducts().get(1).getName());
+                assertNull(orders.get(1).getNumbers());
+            }
+
+            Reading reading = generated.parseSingle("{\"count\": \"7\", \"total\": 1, \"average\": 2, \"ratio\": 0.5, \"peak\": null}", Reading.class);
+            assertEquals(7, reading.count);
+            assertEquals(2.0, reading.average);
+            assertNull(reading.peak);
+
+            Frozen frozen = generated.parseSingle("{\"age\": 3}", Frozen.class);
+            assertEquals(3, frozen.age);
+
+            for (JsonParser parser : List.of(generated, reflective)) {
+                assertThrows(ConvertToObjectException.class, () -> parser.parseSingle("{\"name\": \"x\"}", User.class));
+                assertThrows(ConvertToObjectException.class, () -> parser.parseSingle("{\"age\": null}", User.class));
+                assertThrows(ConvertToObjectException.class, () -> parser.parseSingle("{\"count\": 1.5}", Reading.class));
+            }
+        }
+
+        @Test
+        public void checkArraysForNonListFieldsInEveryMode() {
+            // Um array para um campo que não é List é descartado e o campo fica como está, em qualquer modo
+            String json = "{\"tags\": [\"x\"], \"count\": [1, {\"a\": 2}], \"address\": [], \"extra\": 1}";
+            assertSame(Tagged.class, RuntimeBinders.define(Tagged.class).type());
+            for (JsonParser parser : List.of(JsonParser.builder().binderMode(BinderMode.GENERATED).build(),
+                    JsonParser.builder().binderMode(BinderMode.REFLECTION).build(),
+                    JsonParser.builder().bindingMode(BindingMode.TREE).build())) {
+                Tagged tagged = parser.parseSingle(json, Tagged.class);
+                assertArrayEquals(new String[]{"default"}, tagged.tags);
+                assertEquals(5, tagged.count);
+                assertNull(tagged.address);
+            }
+        }
+
+        public record Item(String name, int quantity, @JsonFieldAnnotation("unit_price") Double price) {
+        }
+
+        public record Cart(long id, List<Item> items, Item main,
+                           @JsonFieldAnnotation(value = "date", composite = {"day", "month"}) String date) {
+        }
+
+        // Classe imutável sem construtor vazio: preenchida pelo construtor com todos os campos,
+        // ligados pela chave anotada em cada parâmetro (de propósito em outra ordem que a dos campos)
+        public static class Point {
+            private final int x;
+            private final int y;
+            private final String label;
+
+            public Point(@JsonFieldAnnotation("y") int y, @JsonFieldAnnotation("label") String label, @JsonFieldAnnotation("x") int x) {
+                this.x = x;
+                this.y = y;
+                this.label = label;
+            }
+        }
+
+        // Sem anotação: só com os nomes dos parâmetros (-parameters)
+        public static class Span {
+            private final int start;
+            private final int end;
+
+            public Span(int end, int start) {
+                this.start = start;
+                this.end = end;
+            }
+        }
+
+        // Sem anotação e com nomes de parâmetro diferentes dos campos
+        public static class Range {
+            private final int low;
+            private final int high;
+
+            public Range(int to, int from) {
+                this.low = from;
+                this.high = to;
+            }
+        }
+
+        // Dois construtores que recebem todos os campos: ambíguo
+        public static class Pair {
+            private final int a;
+            private final long b;
+
+            public Pair(@JsonFieldAnnotation("a") int a, @JsonFieldAnnotation("b") long b) {
+                this.a = a;
+                this.b = b;
+            }
+
+            public Pair(@JsonFieldAnnotation("b") long b, @JsonFieldAnnotation("a") int a) {
+                this(a, b);
+            }
+        }
+
+        @Test
+        public void checkConstructorBinding() {
+            String json = """
+                    {"id": 5, "ignored": [1, {"a": 2}], "date": {"day": "3", "month": "abr"},
+                     "items": [{"name": "a", "quantity": 2, "unit_price": 1.5}, {"quantity": "4", "name": "b"}],
+                     "main": {"name": "m", "quantity": 1, "unit_price": 2}}""";
+
+            for (BindingMode mode : BindingMode.values()) {
+                JsonParser parser = JsonParser.builder().bindingMode(mode).build();
+                Cart cart = parser.parseSingle(json, Cart.class);
+
+                assertEquals(new Cart(5, List.of(new Item("a", 2, 1.5), new Item("b", 4, null)), new Item("m", 1, 2.0), "3 abr"), cart);
+
+                Point point = parser.parseSingle("{\"y\": 2, \"x\": 1}", Point.class);
+                assertEquals(1, point.x);
+                assertEquals(2, point.y);
+                assertNull(point.label);
+
+                assertThrows(ConvertToObjectException.class, () -> parser.parseSingle("{\"name\": \"x\"}", Item.class));
+                assertThrows(ConvertToObjectException.class, () -> parser.parseSingle("{\"x\": 1, \"y\": null}", Point.class));
+
+                // Sem anotação, pelos nomes dos parâmetros, mesmo em outra ordem e com o mesmo tipo
+                Span span = parser.parseSingle("{\"start\": 1, \"end\": 2}", Span.class);
+                assertEquals(1, span.start);
+                assertEquals(2, span.end);
+                // Nomes que não batem com os campos, nem anotação: os tipos iguais não dizem qual é qual, erro em vez de trocar
+                assertThrows(ConvertToObjectException.class, () -> parser.parseSingle("{\"low\": 1, \"high\": 2}", Range.class));
+                assertThrows(ConvertToObjectException.class, () -> parser.parseSingle("{\"a\": 1, \"b\": 2}", Pair.class));
+            }
+
+            // Sem binder gerado (campos final), mas o mesmo resultado
+            assertThrows(ConvertToObjectException.class, () -> RuntimeBinders.define(Cart.class));
+            assertEquals(new Item("a", 1, null), JsonParser.builder().binderMode(BinderMode.GENERATED).build()
+                    .parseSingle("{\"name\": \"a\", \"quantity\": 1}", Item.class));
+
+            assertEquals("{\"name\":\"a\",\"quantity\":1,\"unit_price\":1.5}", JsonSerializer.getInstance().toJson(new Item("a", 1, 1.5)));
+        }
+
+        @Test
+        public void checkParserSession() {
+            String json = "{\"name\": \"João 😀\", \"age\": 30, \"email\": \"j@x.y\", \"extra\": [1, {\"a\": \"b\"}]}";
+            StringBuilder big = new StringBuilder("[");
+            for (int i = 0; i < 2000; i++) {
+                big.append(i == 0 ? "" : ",").append("{\"name\": \"n").append(i).append("\", \"age\": ").append(i).append('}');
+            }
+            String list = big.append(']').toString();
+
+            for (JsonParser parser : List.of(jsonParser, JsonParser.builder().structuralIndex(true).build(),
+                    JsonParser.builder().bindingMode(BindingMode.TREE).build())) {
+                ParserSession session = parser.newSession();
+
+                // Entradas de tamanhos diferentes e um erro no meio não deixam resto na sessão
+                for (int round = 0; round < 3; round++) {
+                    User user = session.parseSingle(json.getBytes(StandardCharsets.UTF_8), User.class);
+                    assertEquals("João 😀", user.getName());
+                    assertEquals(30, session.parseSingle(json, User.class).getAge());
+
+                    List<User> users = session.parseList(list, User.class);
+                    assertEquals(2000, users.size());
+                    assertEquals("n1999", users.getLast().getName());
+
+                    assertThrows(InvalidSyntaxException.class, () -> session.parseSingle("{\"name\": \"a\" \"age\": 1}", User.class));
+                    assertEquals("j@x.y", session.parseSingle(json, User.class).getEmail());
+                }
+
+                // Bytes mal formados viram U+FFFD, como no parser
+                byte[] malformed = {'{', '"', 'n', 'a', 'm', 'e', '"', ':', '"', (byte) 0xC3, '"', ',', '"', 'a', 'g', 'e', '"', ':', '1', '}'};
+                assertEquals(parser.parseSingle(malformed, User.class).getName(), session.parseSingle(malformed, User.class).getName());
+            }
+
+            // A sessão reaproveita o cursor (com o reader dos binders preso a ele) e o índice entre as leituras.
+            // A alocação por chamada, que depende do JIT, é medida no SessionBenchmark.
+            String reading = "{\"count\": 3, \"total\": 9007199254740993, \"average\": 1.5e-3, \"ratio\": 0.25, \"peak\": null, \"samples\": null}";
+            InputBuffer input = new InputBuffer();
+            TokenCursor cursor = input.cursor(reading, false);
+            assertEquals(3, jsonParser.parseSingle(cursor, Reading.class).count);
+            Object binderReader = cursor.attachment();
+            assertNotNull(binderReader);
+
+            assertSame(cursor, input.cursor(json.getBytes(StandardCharsets.UTF_8), false));
+            assertSame(cursor, input.cursor(reading, false));
+            assertEquals(3, jsonParser.parseSingle(cursor, Reading.class).count);
+            assertSame(binderReader, cursor.attachment());
+
+            TokenCursor indexed = input.cursor(list, true);
+            assertSame(indexed, input.cursor(reading, true));
+        }
+
+        @Test
+        public void checkCompactTree() {
+            StringBuilder wide = new StringBuilder("{");
+            for (int i = 0; i < 40; i++) {
+                wide.append(i == 0 ? "" : ", ").append("\"k").append(39 - i).append("\": ").append(i);
+            }
+            String json = "{\"name\": \"Jo\\u00e3o \\\"x\\\"\", \"age\": 30, \"ratio\": -1.5e2, \"ok\": true, \"no\": false, \"none\": null,"
+                    + " \"list\": [1, [], {}, [2.5, \"a\"], {\"b\": {\"c\": [null]}}], \"wide\": " + wide.append('}') + ","
+                    + " \"dup\": 1, \"dup\": {\"z\": 2}, \"big\": 9007199254740993}";
+
+            Object tree = JsonParser.builder().bindingMode(BindingMode.TREE).build().select(json, JsonPath.compile("$")).getFirst();
+            for (JsonParser parser : List.of(jsonParser, JsonParser.builder().structuralIndex(true).build())) {
+                Map<?, ?> tape = (Map<?, ?>) parser.parseTree(json);
+                assertEquals(tree, tape);
+                assertEquals(tape, tree);
+                assertEquals(tree.hashCode(), tape.hashCode());
+            }
+
+            Map<?, ?> root = (Map<?, ?>) jsonParser.parseTree(json.getBytes(StandardCharsets.UTF_8));
+            assertEquals("João \"x\"", root.get("name"));
+            assertEquals(9007199254740993L, root.get("big"));
+            assertEquals(-150.0, root.get("ratio"));
+            assertEquals(Map.of("z", 2L), root.get("dup"));
+            assertTrue(root.containsKey("none"));
+            assertFalse(root.containsKey("missing"));
+            assertNull(root.get(1));
+
+            // Ordem do documento, sem a chave repetida
+            assertEquals(List.of("name", "age", "ratio", "ok", "no", "none", "list", "wide", "dup", "big"), List.copyOf(root.keySet()));
+            Map<?, ?> wideMap = (Map<?, ?>) root.get("wide");
+            assertEquals(40, wideMap.size());
+            for (int i = 0; i < 40; i++) {
+                assertEquals((long) 39 - i, wideMap.get("k" + i));
+            }
+
+            List<Object> list = (List<Object>) root.get("list");
+            assertEquals(List.of(2.5, "a"), list.get(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+            assertThrows(UnsupportedOperationException.class, () -> list.add(1));
+            assertThrows(UnsupportedOperationException.class, () -> ((Map<String, Object>) root).put("a", 1));
+
+            assertEquals(List.of(1L, 2L), jsonParser.parseTree(new StringReader("[1, 2]")));
+            assertThrows(InvalidSyntaxException.class, () -> jsonParser.parseTree("{\"a\" 1}"));
+            assertThrows(InvalidSyntaxException.class, () -> jsonParser.parseTree("[1, 2"));
+            assertThrows(InvalidSyntaxException.class, () -> jsonParser.parseTree("\"a\""));
+        }
+
+        @Test
+        public void checkTapeCache(@TempDir Path dir) throws Exception {
+            String json = "[{\"id\": 1, \"numbers\": [1, 2], \"products\": [{\"id\": 3, \"name\": \"p\", \"date\": {\"day\": \"1\", \"month\": \"jan\"}}]}]";
+            byte[] bytes = "{\"name\": \"Jo\\u00e3o\", \"age\": 30}".getBytes(StandardCharsets.UTF_8);
+
+            TapeCache cache = new TapeCache(1 << 20);
+            JsonParser cached = JsonParser.builder().tapeCache(cache).build();
+
+            for (int i = 0; i < 3; i++) {
+                List<Order> orders = cached.parseList(json, Order.class);
+                assertEquals(List.of(1, 2), orders.getFirst().getNumbers());
+                assertEquals("1 jan", orders.getFirst().getProducts().getFirst().getBought_at());
+                assertEquals("João", cached.parseSingle(bytes, User.class).getName());
+            }
+            assertEquals(jsonParser.parseTree(json), cached.parseTree(json));
+            assertEquals(2, cache.misses());
+            assertEquals(5, cache.hits());
+            assertEquals(2, cache.size());
+
+            // O array guardado é uma cópia: mudar o do chamador não muda a entrada
+            bytes[10] = 'X';
+            assertEquals("Xoão", cached.parseSingle(bytes, User.class).getName());
+            assertEquals(3, cache.misses());
+
+            Path file = dir.resolve("tapes.bin");
+            cache.save(file);
+            TapeCache loaded = TapeCache.load(file, 1 << 20);
+            assertEquals(3, loaded.size());
+            JsonParser fromFile = JsonParser.builder().tapeCache(loaded).build();
+            assertEquals(3, fromFile.parseList(json, Order.class).getFirst().getProducts().getFirst().getId());
+            assertEquals(1, loaded.hits());
+            assertEquals(0, loaded.misses());
+
+            // Arquivo truncado ou com tamanhos e posições corrompidos: IOException, sem alocar o tamanho lido
+            byte[] saved = Files.readAllBytes(file);
+            Path broken = dir.resolve("broken.bin");
+            for (int cut : new int[]{4, 13, saved.length / 2, saved.length - 1}) {
+                Files.write(broken, Arrays.copyOf(saved, cut));
+                assertThrows(UncheckedIOException.class, () -> TapeCache.load(broken, 1 << 20));
+            }
+            for (int at = 12; at + 4 <= saved.length; at++) {
+                for (int corrupt : new int[]{-1, Integer.MAX_VALUE, 1 << 20}) {
+                    byte[] bad = saved.clone();
+                    ByteBuffer.wrap(bad).putInt(at, corrupt);
+                    Files.write(broken, bad);
+                    try {
+                        TapeCache.load(broken, 1 << 20);
+                    } catch (UncheckedIOException ex) {
+                        assertInstanceOf(IOException.class, ex.getCause());
+                    }
+                }
+            }
+
+            // Só cabe um documento: o menos usado sai
+            TapeCache probe = new TapeCache(1 << 20);
+            JsonParser.builder().tapeCache(probe).build().parseTree("{\"a\": 1}");
+            TapeCache small = new TapeCache(probe.bytes() * 3 / 2);
+            JsonParser bounded = JsonParser.builder().tapeCache(small).build();
+            bounded.parseList(json, Order.class);
+            bounded.parseTree("{\"a\": 1}");
+            bounded.parseTree("{\"b\": 2}");
+            assertEquals(1, small.size());
+            assertEquals(1, small.evictions());
+            assertEquals(Map.of("b", 2L), bounded.parseTree("{\"b\": 2}"));
+            assertEquals(Map.of("a", 1L), bounded.parseTree("{\"a\": 1}"));
+            assertEquals(1, small.hits());
+            assertEquals(4, small.misses());
+
+            assertThrows(InvalidSyntaxException.class, () -> cached.parseTree("{\"a\" 1}"));
+            assertThrows(IllegalArgumentException.class, () -> new TapeCache(0));
+        }
+
+        @Test
+        public void checkJsonFeeder() {
+            // Objeto na raiz seguido de um array na raiz; chaves e escapes dentro de strings não abrem nada
+            String json = "{\"name\": \"João \\\"}\\\\ 😀\", \"age\": 1, \"address\": {\"cidade\": \"[}{\"}}\n"
+                    + "[\"solto\", -12.5e3, {\"name\": \"b\", \"age\": 2}, [1, {\"x\": \"]\"}], true,\n{\"name\": \"c\", \"age\": 3}]";
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            Random random = new Random(42);
+
+            // Qualquer corte, inclusive no meio de escapes, números e caracteres multibyte
+            for (int size : new int[]{1, 2, 3, 7, 64, bytes.length, -1}) {
+                List<User> users = new ArrayList<>();
+                JsonFeeder<User> feeder = jsonParser.feeder(User.class, users::add);
+                int at = 0;
+                while (at < bytes.length) {
+                    int n = Math.min(bytes.length - at, size > 0 ? size : 1 + random.nextInt(9));
+                    ByteBuffer chunk = size == 3 ? ByteBuffer.allocateDirect(n).put(bytes, at, n).flip() : ByteBuffer.wrap(bytes, at, n);
+                    feeder.feed(chunk);
+                    assertFalse(chunk.hasRemaining());
+                    at += n;
+                }
+                feeder.endOfInput();
+
+                assertEquals(3, users.size());
+                assertEquals("João \"}\\ 😀", users.get(0).getName());
+                assertEquals("[}{", users.get(0).getAddress().getCidade());
+                assertEquals("b", users.get(1).getName());
+                assertEquals(3, users.get(2).getAge());
+            }
+
+            // Cada objeto é entregue assim que fecha, sem esperar o resto
+            List<User> users = new ArrayList<>();
+            JsonFeeder<User> feeder = jsonParser.feeder(User.class, users::add);
+            feeder.feed("[{\"name\": \"a\", \"age\": 1}, {\"age\": 2, \"na".getBytes(StandardCharsets.UTF_8));
+            assertEquals(1, users.size());
+            feeder.feed("me\": \"b\"}".getBytes(StandardCharsets.UTF_8));
+            assertEquals("b", users.get(1).getName());
+            assertThrows(InvalidSyntaxException.class, feeder::endOfInput);
+            assertThrows(IllegalStateException.class, () -> feeder.feed(new byte[]{']'}));
+
+            JsonFeeder<User> open = jsonParser.feeder(User.class, users::add);
+            open.feed("{\"name\": \"a".getBytes(StandardCharsets.UTF_8));
+            assertThrows(InvalidSyntaxException.class, open::endOfInput);
+            assertThrows(InvalidSyntaxException.class, () -> jsonParser.feeder(User.class, users::add).feed("[{\"age\": 1} {\"age\": 2}]".getBytes(StandardCharsets.UTF_8)));
+            assertThrows(InvalidSyntaxException.class, () -> jsonParser.feeder(User.class, users::add).feed("{\"name\" \"a\"}".getBytes(StandardCharsets.UTF_8)));
+
+            // Escalares soltos no array da raiz são descartados, mas validados como em stream()
+            assertThrows(InvalidCharacterException.class, () -> jsonParser.stream("[tru, {\"age\":1}]", User.class).toList());
+            assertThrows(InvalidCharacterException.class, () -> jsonParser.stream("[{\"age\":1}, @#!, {\"age\":2}]", User.class).toList());
+            for (String invalid : new String[]{"[tru, {\"age\":1}]", "[{\"age\":1}, @#!, {\"age\":2}]", "[01, {\"age\":1}]", "[1.2.3]", "[\"\\q\"]"}) {
+                byte[] chunk = invalid.getBytes(StandardCharsets.UTF_8);
+                assertThrows(InvalidCharacterException.class, () -> {
+                    JsonFeeder<User> invalidFeeder = jsonParser.feeder(User.class, users::add);
+                    invalidFeeder.feed(chunk);
+                    invalidFeeder.endOfInput();
+                }, invalid);
+            }
+            users.clear();
+            JsonFeeder<User> scalars = jsonParser.feeder(User.class, users::add);
+            scalars.feed("[true, -0.5E+2, null, \"a\\\"b\", {\"age\": 1}, false]".getBytes(StandardCharsets.UTF_8));
+            scalars.endOfInput();
+            assertEquals(1, users.size());
+
+            // Depois de um erro, do parser ou do consumidor, o feeder não aceita mais pedaços
+            JsonFeeder<User> failing = jsonParser.feeder(User.class, user -> {
+                throw new IllegalArgumentException("sink");
+            });
+            assertThrows(IllegalArgumentException.class, () -> failing.feed("[{\"age\": 1}, ".getBytes(StandardCharsets.UTF_8)));
+            assertThrows(IllegalStateException.class, () -> failing.feed("{\"age\": 2}]".getBytes(StandardCharsets.UTF_8)));
+            JsonFeeder<User> broken = jsonParser.feeder(User.class, users::add);
+            assertThrows(ConvertToObjectException.class, () -> broken.feed("{\"name\": \"a\"}".getBytes(StandardCharsets.UTF_8)));
+            assertThrows(IllegalStateException.class, () -> broken.feed("{\"age\": 1}".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Test
+        public void checkJsonLines(@TempDir Path dir) throws Exception {
+            // Quebras \n e \r\n, linhas em branco, uma linha maior que o bloco e sem quebra no fim
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 3000; i++) {
+                sb.append("{\"name\": \"ção ").append(i).append("\", \"age\": ").append(i).append('}');
+                sb.append(i % 3 == 0 ? "\r\n" : "\n");
+                if (i % 500 == 0) {
+                    sb.append("\n  \n");
+                }
+                if (i == 1000) {
+                    sb.append("{\"name\": \"").append("x".repeat(5000)).append("\", \"age\": -1}\n");
+                }
+            }
+            byte[] ndjson = sb.append("{\"name\": \"last\", \"age\": 3000}").toString().getBytes(StandardCharsets.UTF_8);
+
+            ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor();
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                for (JsonLines<User> lines : List.of(jsonParser.lines(User.class), jsonParser.lines(User.class).batchBytes(700),
+                        jsonParser.lines(User.class).executor(pool).batchBytes(1024),
+                        jsonParser.lines(User.class).executor(virtual).batchBytes(333).window(3))) {
+                    List<User> users = lines.stream(new ByteArrayInputStream(ndjson)).toList();
+                    assertEquals(3002, users.size());
+                    assertEquals("ção 0", users.getFirst().getName());
+                    assertEquals(5000, users.get(1001).getName().length());
+                    assertEquals(1500, users.get(1501).getAge());
+                    assertEquals("last", users.getLast().getName());
+
+                    // Fora de ordem, as mesmas linhas
+                    lines.ordered(false);
+                    Iterator<User> unordered = lines.iterator(new ByteArrayInputStream(ndjson));
+                    long sum = 0;
+                    int count = 0;
+                    while (unordered.hasNext()) {
+                        sum += unordered.next().getAge();
+                        count++;
+                    }
+                    assertEquals(3002, count);
+                    assertEquals(3000L * 3001 / 2 - 1, sum);
+                }
+
+                // O erro de uma linha sai para quem consome, com o tipo original
+                byte[] broken = "{\"name\": \"a\", \"age\": 1}\n{\"name\" \"b\"}\n".getBytes(StandardCharsets.UTF_8);
+                assertThrows(InvalidSyntaxException.class, () -> jsonParser.lines(User.class).executor(pool).stream(new ByteArrayInputStream(broken)).toList());
+
+                Path file = dir.resolve("users.ndjson");
+                Files.write(file, ndjson);
+                try (Stream<User> users = jsonParser.lines(User.class).executor(virtual).stream(file)) {
+                    assertEquals(3002, users.filter(user -> user.getAge() >= 0).count() + 1);
+                }
+                assertFalse(jsonParser.lines(User.class).iterator(new ByteArrayInputStream(new byte[0])).hasNext());
+            } finally {
+                virtual.shutdown();
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        public void checkEventReader(@TempDir Path dir) throws Exception {
+            String json = "{\"id\": 7, \"name\": \"a\\\"b\", \"tags\": [true, false, null, 1.5e2], \"skip\": {\"x\": [\"}\", {}]}, \"last\": -3}";
+            try (JsonEventReader events = jsonParser.events(json)) {
+                List<JsonEvent> seen = new ArrayList<>();
+                List<String> texts = new ArrayList<>();
+                JsonEvent event;
+                while ((event = events.nextEvent()) != null) {
+                    seen.add(event);
+                    if (event == JsonEvent.FIELD_NAME && events.textEquals("skip")) {
+                        assertEquals(JsonEvent.START_OBJECT, events.nextEvent());
+                        events.skipChildren();
+                        assertEquals(JsonEvent.END_OBJECT, events.currentEvent());
+                        assertEquals(1, events.depth());
+                        continue;
+                    }
+                    if (event == JsonEvent.FIELD_NAME || event == JsonEvent.VALUE_STRING) {
+                        texts.add(events.getText());
+                    }
+                }
+
+                assertEquals(List.of(JsonEvent.START_OBJECT, JsonEvent.FIELD_NAME, JsonEvent.VALUE_NUMBER, JsonEvent.FIELD_NAME,
+                        JsonEvent.VALUE_STRING, JsonEvent.FIELD_NAME, JsonEvent.START_ARRAY, JsonEvent.VALUE_TRUE, JsonEvent.VALUE_FALSE,
+                        JsonEvent.VALUE_NULL, JsonEvent.VALUE_NUMBER, JsonEvent.END_ARRAY, JsonEvent.FIELD_NAME, JsonEvent.FIELD_NAME,
+                        JsonEvent.VALUE_NUMBER, JsonEvent.END_OBJECT), seen);
+                assertEquals(List.of("id", "name", "a\"b", "tags", "last"), texts);
+            }
+
+            // Agregação sem montar nada: soma e máximo de um campo em todos os objetos
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < 1000; i++) {
+                sb.append(i == 0 ? "" : ", ").append("{\"ts\": ").append(1_700_000_000_000L + i).append(", \"v\": ").append(i * 0.5).append('}');
+            }
+            byte[] list = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+            double sum = 0;
+            long maxTs = 0;
+            try (JsonEventReader events = jsonParser.events(new ByteArrayInputStream(list))) {
+                for (JsonEvent event = events.nextEvent(); event != null; event = events.nextEvent()) {
+                    if (event == JsonEvent.FIELD_NAME && events.textEquals("ts")) {
+                        events.nextEvent();
+                        maxTs = Math.max(maxTs, events.getLong());
+                    } else if (event == JsonEvent.FIELD_NAME && events.textEquals("v")) {
+                        events.nextEvent();
+                        sum += events.getDouble();
+                    }
+                }
+            }
+            assertEquals(1_700_000_000_999L, maxTs);
+            assertEquals(999 * 1000 / 4.0, sum);
+
+            // Documentos em sequência, arquivo e erros de estrutura
+            Path file = dir.resolve("events.json");
+            Files.writeString(file, "{\"a\": 1}\n[2]");
+            try (JsonEventReader events = jsonParser.events(file)) {
+                int count = 0;
+                while (events.nextEvent() != null) {
+                    count++;
+                }
+                assertEquals(7, count);
+            }
+            for (String invalid : List.of("{\"a\" 1}", "[1 2]", "{\"a\": 1]", "[1, {\"a\": }]", "{\"a\": [1, 2}", "3", "{\"a\": {")) {
+                assertThrows(InvalidSyntaxException.class, () -> {
+                    JsonEventReader events = jsonParser.events(invalid);
+                    while (events.nextEvent() != null) {
+                        events.currentEvent();
+                    }
+                }, invalid);
+            }
+            JsonEventReader events = jsonParser.events("[\"x\"]");
+            events.nextEvent();
+            events.nextEvent();
+            assertThrows(IllegalStateException.class, events::getLong);
+        }
+
+    }
\ No newline at end of file
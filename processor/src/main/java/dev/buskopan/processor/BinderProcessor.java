@@ -0,0 +1,106 @@
+package dev.buskopan.processor;
+
+import dev.buskopan.annotation.JsonBindable;
+import dev.buskopan.annotation.JsonFieldAnnotation;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Gera um {@code JsonBinder} para cada classe marcada com {@link JsonBindable} ou com algum campo
+ * anotado com {@link JsonFieldAnnotation}, e registra todos em {@code META-INF/services}.
+ * <p>
+ * Classes que o código gerado não consegue preencher (campo privado sem setter, sem construtor público
+ * sem argumentos, classe genérica...) só recebem um aviso e continuam sendo lidas por reflexão.
+ */
+@SupportedAnnotationTypes({
+        "dev.buskopan.annotation.JsonBindable",
+        "dev.buskopan.annotation.JsonFieldAnnotation"
+})
+public class BinderProcessor extends AbstractProcessor {
+
+    static final String SERVICE_FILE = "META-INF/services/dev.buskopan.binder.JsonBinder";
+
+    private final Set<TypeElement> seen = new LinkedHashSet<>();
+    private final Set<String> binders = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (Element element : round.getElementsAnnotatedWith(JsonBindable.class)) {
+            if (element instanceof TypeElement type) {
+                types.add(type);
+            }
+        }
+        for (Element element : round.getElementsAnnotatedWith(JsonFieldAnnotation.class)) {
+            if (element.getEnclosingElement() instanceof TypeElement type) {
+                types.add(type);
+            }
+        }
+
+        for (TypeElement type : types) {
+            if (seen.add(type)) {
+                generate(type);
+            }
+        }
+
+        if (round.processingOver() && !binders.isEmpty()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        BinderSource source = new BinderSource(type, processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+        String problem = source.problem();
+        if (problem != null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "no JsonBinder generated for " + type.getQualifiedName() + " (" + problem + "); it will be bound by reflection", type);
+            return;
+        }
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(source.binderName(), type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.render());
+            }
+            binders.add(source.binderName());
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "cannot write JsonBinder for " + type.getQualifiedName() + ": " + ex.getMessage(), type);
+        }
+    }
+
+    // Só é escrito na última rodada, com os binders de todas as rodadas
+    private void writeServiceFile() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String binder : binders) {
+                    writer.write(binder);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package dev.buskopan.processor;
+
+import dev.buskopan.annotation.JsonFieldAnnotation;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Código-fonte do binder de uma classe. Segue as mesmas regras do BindingPlan: campos não estáticos
+// declarados na própria classe, chave do JsonFieldAnnotation, campos ausentes ficam null e primitivos
+// ausentes são erro. Os valores são gravados pelo setter setXxx ou, sem ele, direto no campo.
+final class BinderSource {
+
+    private static final String READER = "dev.buskopan.binder.JsonReader";
+    private static final String BINDER = "dev.buskopan.binder.JsonBinder";
+    private static final String EXCEPTION = "dev.buskopan.exception.ConvertToObjectException";
+
+    private record Property(String key, String[] composite, String name, String setter, String read, boolean primitive,
+                            boolean list) {
+
+        String assign(String value) {
+            return setter != null ? "instance." + setter + "(" + value + ")" : "instance." + name + " = " + value;
+        }
+    }
+
+    private final TypeElement type;
+    private final Elements elements;
+    private final Types types;
+    private final List<Property> properties = new ArrayList<>();
+    private String problem;
+
+    BinderSource(TypeElement type, Elements elements, Types types) {
+        this.type = type;
+        this.elements = elements;
+        this.types = types;
+        this.problem = checkType();
+        if (problem == null) {
+            this.problem = collectProperties();
+        }
+    }
+
+    // Motivo para não gerar o binder, ou null se ele pode ser gerado
+    String problem() {
+        return problem;
+    }
+
+    String binderName() {
+        String packageName = packageName();
+        return packageName.isEmpty() ? simpleBinderName() : packageName + "." + simpleBinderName();
+    }
+
+    String render() {
+        String target = type.getQualifiedName().toString();
+        StringBuilder sb = new StringBuilder();
+
+        if (!packageName().isEmpty()) {
+            sb.append("package ").append(packageName()).append(";\n\n");
+        }
+        sb.append("// Gerado pelo parser-json-processor a partir de ").append(target).append(". Não edite.\n");
+        sb.append("public final class ").append(simpleBinderName())
+                .append(" implements ").append(BINDER).append("<").append(target).append("> {\n\n");
+
+        sb.append("    public ").append(simpleBinderName()).append("() {\n    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public Class<").append(target).append("> type() {\n");
+        sb.append("        return ").append(target).append(".class;\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        sb.append("    public ").append(target).append(" read(").append(READER).append(" reader) {\n");
+        sb.append("        ").append(target).append(" instance = new ").append(target).append("();\n");
+        for (int i = 0; i < properties.size(); i++) {
+            if (properties.get(i).composite().length == 0) {
+                sb.append("        boolean seen").append(i).append(" = false;\n");
+            }
+        }
+
+        sb.append("\n        String key;\n");
+        sb.append("        while ((key = reader.nextField()) != null) {\n");
+        sb.append("            switch (key) {\n");
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            sb.append("                case ").append(elements.getConstantExpression(property.key())).append(" -> {\n");
+            if (property.composite().length > 0 || property.list()) {
+                sb.append("                    ").append(property.assign(property.read())).append(";\n");
+            } else {
+                // Como no BindingPlan, um array para um campo que não é List é descartado e o campo fica como está
+                sb.append("                    if (!reader.skipIfArray()) {\n");
+                sb.append("                        ").append(property.assign(property.read())).append(";\n");
+                sb.append("                    }\n");
+            }
+            if (property.composite().length == 0) {
+                sb.append("                    seen").append(i).append(" = true;\n");
+            }
+            sb.append("                }\n");
+        }
+        sb.append("                default -> reader.skipValue();\n");
+        sb.append("            }\n");
+        sb.append("        }\n\n");
+
+        // Campos ausentes: o mesmo que uma chave inexistente no binding por reflexão
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            if (property.composite().length > 0) {
+                continue;
+            }
+            sb.append("        if (!seen").append(i).append(") {\n");
+            if (property.primitive()) {
+                sb.append("            throw new ").append(EXCEPTION).append("(")
+                        .append(elements.getConstantExpression("missing value for primitive field " + property.name()))
+                        .append(");\n");
+            } else {
+                sb.append("            ").append(property.assign("null")).append(";\n");
+            }
+            sb.append("        }\n");
+        }
+
+        sb.append("        return instance;\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private String checkType() {
+        if (type.getKind() != ElementKind.CLASS) {
+            return "not a class";
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return "abstract class";
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            return "generic class";
+        }
+
+        for (Element element = type; element instanceof TypeElement nested; element = element.getEnclosingElement()) {
+            if (nested.getModifiers().contains(Modifier.PRIVATE)) {
+                return "private class";
+            }
+            if (nested.getNestingKind() == NestingKind.MEMBER && !nested.getModifiers().contains(Modifier.STATIC)) {
+                return "inner class is not static";
+            }
+            if (nested.getNestingKind() == NestingKind.LOCAL || nested.getNestingKind() == NestingKind.ANONYMOUS) {
+                return "local class";
+            }
+        }
+
+        // Assim como o BindingPlan, que usa getConstructor()
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return null;
+            }
+        }
+        return "no public no-arg constructor";
+    }
+
+    private String collectProperties() {
+        Set<String> keys = new HashSet<>();
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+
+            String name = field.getSimpleName().toString();
+            JsonFieldAnnotation annotation = field.getAnnotation(JsonFieldAnnotation.class);
+            String key = annotation != null ? annotation.value() : name;
+            String[] composite = annotation != null ? annotation.composite() : new String[0];
+
+            // Vários campos com a mesma chave recebem o mesmo valor: fica com a reflexão
+            if (!keys.add(key)) {
+                return "more than one field with key " + key;
+            }
+
+            String setter = setterFor(field);
+            if (setter == null && (field.getModifiers().contains(Modifier.PRIVATE) || field.getModifiers().contains(Modifier.FINAL))) {
+                return "field " + name + " has no setter and cannot be assigned directly";
+            }
+
+            TypeMirror fieldType = field.asType();
+            String read;
+            if (composite.length > 0) {
+                if (!types.isSameType(fieldType, elements.getTypeElement("java.lang.String").asType())) {
+                    return "composite field " + name + " is not a String";
+                }
+                read = "reader.readComposite(" + constants(composite) + ")";
+            } else {
+                read = readExpression(fieldType);
+                if (read == null) {
+                    return "unsupported type " + fieldType + " of field " + name;
+                }
+            }
+
+            properties.add(new Property(key, composite, name, setter, read, fieldType.getKind().isPrimitive(),
+                    read.startsWith("(java.util.List)")));
+        }
+        return null;
+    }
+
+    private String readExpression(TypeMirror fieldType) {
+        switch (fieldType.getKind()) {
+            case INT:
+                return "reader.readInt()";
+            case LONG:
+                return "reader.readLong()";
+            case DOUBLE:
+                return "reader.readDouble()";
+            case FLOAT:
+                return "reader.readFloat()";
+            case BOOLEAN:
+                return "reader.readBoolean()";
+            case DECLARED:
+            case ARRAY:
+                break;
+            default:
+                return null;
+        }
+
+        TypeMirror erasure = types.erasure(fieldType);
+        TypeMirror list = types.erasure(elements.getTypeElement("java.util.List").asType());
+        if (types.isSameType(erasure, list)) {
+            // O mesmo tipo de elemento que o BindingPlan: o argumento da List, se for uma classe simples
+            String element = "java.lang.Object";
+            if (fieldType instanceof DeclaredType declared && declared.getTypeArguments().size() == 1) {
+                TypeMirror argument = declared.getTypeArguments().getFirst();
+                if (argument.getKind() == TypeKind.DECLARED && ((DeclaredType) argument).getTypeArguments().isEmpty()) {
+                    element = types.erasure(argument).toString();
+                }
+            }
+            return "(java.util.List) reader.readList(" + element + ".class)";
+        }
+        if (types.isAssignable(erasure, list)) {
+            return null;
+        }
+        return "reader.read(" + erasure + ".class)";
+    }
+
+    private String setterFor(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String setter = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(setter)
+                    && method.getParameters().size() == 1
+                    && types.isSameType(method.getParameters().getFirst().asType(), field.asType())
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                return setter;
+            }
+        }
+        return null;
+    }
+
+    private String constants(String[] values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements.getConstantExpression(values[i]));
+        }
+        return sb.toString();
+    }
+
+    private String packageName() {
+        PackageElement element = elements.getPackageOf(type);
+        return element.isUnnamed() ? "" : element.getQualifiedName().toString();
+    }
+
+    // Outer.Inner vira Outer_Inner_JsonBinder, no mesmo pacote da classe
+    private String simpleBinderName() {
+        String qualified = type.getQualifiedName().toString();
+        String packageName = packageName();
+        String relative = packageName.isEmpty() ? qualified : qualified.substring(packageName.length() + 1);
+        return relative.replace('.', '_') + "_JsonBinder";
+    }
+}
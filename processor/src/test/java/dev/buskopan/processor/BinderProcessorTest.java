@@ -0,0 +1,174 @@
+package dev.buskopan.processor;
+
+import dev.buskopan.binder.JsonBinder;
+import dev.buskopan.exception.ConvertToObjectException;
+import dev.buskopan.parser.BindingMode;
+import dev.buskopan.parser.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinderProcessorTest {
+
+    private static final String SOURCE = """
+            package sample;
+
+            import dev.buskopan.annotation.JsonBindable;
+            import dev.buskopan.annotation.JsonFieldAnnotation;
+            import java.util.List;
+
+            public class Catalog {
+
+                public static class Item {
+                    @JsonFieldAnnotation("item_name")
+                    private String name;
+                    private int quantity;
+                    double price;
+                    public static int setterCalls;
+
+                    public Item() {
+                    }
+
+                    public void setName(String name) {
+                        this.name = name;
+                        setterCalls++;
+                    }
+
+                    public void setQuantity(int quantity) {
+                        this.quantity = quantity;
+                    }
+                }
+
+                @JsonBindable
+                public static class Order {
+                    public long id;
+                    public List<Item> items;
+                    public List<Long> codes;
+                    public Item main;
+                    @JsonFieldAnnotation(value = "date", composite = {"day", "month"})
+                    public String date;
+                    public String note = "default";
+                    public String label = "keep";
+                    public int count = 5;
+
+                    public Order() {
+                    }
+                }
+
+                // Campo privado sem setter: continua com a reflexão
+                @JsonBindable
+                public static class Hidden {
+                    private String secret;
+
+                    public Hidden() {
+                    }
+                }
+            }
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void checkGeneratedBinders() throws Exception {
+        Path source = dir.resolve("src/sample/Catalog.java");
+        Path classes = dir.resolve("classes");
+        Files.createDirectories(source.getParent());
+        Files.createDirectories(classes);
+        Files.writeString(source, SOURCE);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        int result = compiler.run(null, null, errors,
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", BinderProcessor.class.getName(),
+                "-d", classes.toString(),
+                source.toString());
+        String output = errors.toString(StandardCharsets.UTF_8);
+        assertEquals(0, result, output);
+        assertTrue(output.contains("no JsonBinder generated for sample.Catalog.Hidden"), output);
+
+        assertEquals(Set.of("sample.Catalog_Item_JsonBinder", "sample.Catalog_Order_JsonBinder"),
+                Set.copyOf(Files.readAllLines(classes.resolve(BinderProcessor.SERVICE_FILE))));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Set<Class<?>> bound = new HashSet<>();
+            for (JsonBinder<?> binder : ServiceLoader.load(JsonBinder.class, loader)) {
+                bound.add(binder.type());
+            }
+            Class<?> orderClass = loader.loadClass("sample.Catalog$Order");
+            Class<?> itemClass = loader.loadClass("sample.Catalog$Item");
+            assertEquals(Set.of(itemClass, orderClass), bound);
+
+            String json = """
+                    {"id": 7, "extra": {"ignored": [1, 2]}, "date": {"day": "12", "month": "maio"},
+                     "items": [{"item_name": "a", "quantity": 2, "price": 1.5}, {"item_name": "b", "quantity": "3", "price": 2}],
+                     "codes": [1, 2], "label": ["x"], "count": [1, 2], "main": {"item_name": "m", "quantity": 1, "price": 0}}""";
+
+            for (BindingMode mode : BindingMode.values()) {
+                Field setterCalls = itemClass.getField("setterCalls");
+                setterCalls.set(null, 0);
+                Object order = JsonParser.builder().bindingMode(mode).build().parseSingle(json, orderClass);
+
+                assertEquals(7L, orderClass.getField("id").get(order));
+                assertEquals("12 maio", orderClass.getField("date").get(order));
+                assertEquals(List.of(1L, 2L), orderClass.getField("codes").get(order));
+                assertNull(orderClass.getField("note").get(order));
+                // Arrays para campos que não são List são descartados em todos os modos
+                assertEquals("keep", orderClass.getField("label").get(order));
+                assertEquals(5, orderClass.getField("count").get(order));
+
+                List<?> items = (List<?>) orderClass.getField("items").get(order);
+                assertEquals(2, items.size());
+                assertEquals("b", field(itemClass, "name").get(items.get(1)));
+                assertEquals(3, field(itemClass, "quantity").get(items.get(1)));
+                assertEquals(2.0, field(itemClass, "price").get(items.get(1)));
+
+                // Só o binder gerado passa pelo setter; a reflexão grava direto no campo
+                assertEquals(mode == BindingMode.DIRECT ? 3 : 0, setterCalls.get(null));
+            }
+
+            Class<?> hiddenClass = loader.loadClass("sample.Catalog$Hidden");
+            Object hidden = JsonParser.getInstance().parseSingle("{\"secret\": \"s\"}", hiddenClass);
+            assertEquals("s", field(hiddenClass, "secret").get(hidden));
+
+            assertThrows(ConvertToObjectException.class, () -> JsonParser.getInstance().parseSingle("{\"id\": 1, \"main\": {\"price\": 1}}", orderClass));
+        }
+
+        // Uma entrada quebrada no arquivo de serviços não derruba os binders das outras
+        Path broken = dir.resolve("broken");
+        Files.createDirectories(broken.resolve(BinderProcessor.SERVICE_FILE).getParent());
+        Files.writeString(broken.resolve(BinderProcessor.SERVICE_FILE), "sample.Missing_JsonBinder\nsample.Catalog_Item_JsonBinder\n");
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{broken.toUri().toURL(), classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> orderClass = loader.loadClass("sample.Catalog$Order");
+            Field setterCalls = loader.loadClass("sample.Catalog$Item").getField("setterCalls");
+            for (int i = 0; i < 2; i++) {
+                setterCalls.set(null, 0);
+                Object order = JsonParser.getInstance().parseSingle("{\"id\": 3, \"count\": 1, \"main\": {\"item_name\": \"m\", \"quantity\": 1, \"price\": 0}}", orderClass);
+                assertEquals(3L, orderClass.getField("id").get(order));
+                assertEquals(1, setterCalls.get(null));
+            }
+        }
+    }
+
+    private static Field field(Class<?> type, String name) throws NoSuchFieldException {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+}
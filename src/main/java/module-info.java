@@ -1,5 +0,0 @@
-module dev.buskopan {
-    exports dev.buskopan.annotation;
-    exports dev.buskopan.exception;
-    exports dev.buskopan.parser;
-}
\ No newline at end of file